@@ -0,0 +1,49 @@
+package io.github.sekelenao.skcsv;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/*
+ * Implementation of the scanner using the incubating Vector API, comparing 16 to 64 bytes at once depending on the
+ * hardware. This class is only loaded when the jdk.incubator.vector module is resolved, for instance by running with
+ * "--add-modules jdk.incubator.vector".
+ *
+ * It lives in its own source root, compiled by a separate execution with the incubator module, so that the rest of
+ * the library builds without it: StructuralScanner only reaches it by name.
+ */
+final class VectorStructuralScanner extends StructuralScanner {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    private static final int MIN_LANES = 16;
+
+    private static final byte CONTROL_LIMIT = '\r' + 1;
+
+    private VectorStructuralScanner(int quote, int delimiter) {
+        super(quote, delimiter);
+    }
+
+    // Returns null if the hardware is not wide enough for the vectorized scan to pay off
+    static StructuralScanner create(int quote, int delimiter) {
+        if (SPECIES.length() < MIN_LANES || BLOCK_SIZE % SPECIES.length() != 0) return null;
+        return new VectorStructuralScanner(quote, delimiter);
+    }
+
+    @Override
+    long scanBlock(ByteBuffer bytes, int from) {
+        var mask = 0L;
+        for (int i = 0; i < BLOCK_SIZE; i += SPECIES.length()) {
+            var vector = ByteVector.fromByteBuffer(SPECIES, bytes, from + i, ByteOrder.LITTLE_ENDIAN);
+            var found = vector.eq(quote)
+                    .or(vector.eq(delimiter))
+                    .or(vector.compare(VectorOperators.UNSIGNED_LT, CONTROL_LIMIT));
+            mask |= found.toLong() << i;
+        }
+        return mask;
+    }
+
+}
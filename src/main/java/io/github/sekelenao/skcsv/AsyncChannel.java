@@ -0,0 +1,183 @@
+package io.github.sekelenao.skcsv;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+
+/*
+ * Writes to a channel on a separate thread, so that producing the bytes, such as formatting and encoding rows, overlaps
+ * with writing them.
+ *
+ * The bytes are put into one buffer while the writing thread writes the other one to the target, the buffers being
+ * handed to the writing thread through a queue and given back once written: a producer faster than the target waits
+ * for a buffer to be written. A producer encoding its bytes itself, such as ChannelWriter, takes the buffers with
+ * take() and hands them back filled with handOff(), so that its bytes are never copied; the bytes given to write() are
+ * copied into the buffers. The first error of the target, checked or not, is reported by the completion future as
+ * soon as it occurs, and thrown by the next write. The target is closed by the writing thread once the buffers handed
+ * before closing this channel have been written, whatever their outcome, after which the completion future is
+ * completed. The writing thread is a daemon, so that a channel left open does not prevent the JVM from exiting.
+ */
+final class AsyncChannel implements GatheringByteChannel {
+
+    private static final int BUFFER_SIZE = 1 << 18;
+
+    private static final int BUFFERS = 2;
+
+    // Handed to the writing thread after the last buffer
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    private final WritableByteChannel target;
+
+    private final BlockingQueue<ByteBuffer> filled = new ArrayBlockingQueue<>(BUFFERS + 1);
+
+    private final BlockingQueue<ByteBuffer> free = new ArrayBlockingQueue<>(BUFFERS);
+
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    private final Thread thread;
+
+    // First error of the target, written by the writing thread
+    private volatile Throwable failure;
+
+    private ByteBuffer current;
+
+    private boolean closed;
+
+    private AsyncChannel(WritableByteChannel target) {
+        this.target = target;
+        for (int i = 0; i < BUFFERS; i++) {
+            free.add(ByteBuffer.allocateDirect(BUFFER_SIZE));
+        }
+        this.thread = new Thread(this::drain, "SkCsv-writer");
+        thread.setDaemon(true);
+    }
+
+    static AsyncChannel of(WritableByteChannel target) {
+        var channel = new AsyncChannel(Objects.requireNonNull(target));
+        channel.thread.start();
+        return channel;
+    }
+
+    /*
+     * Writes the buffers until the end is handed, then closes the target. After an error, the buffers are given back
+     * without being written, so that the producer never waits for a buffer that will not come. The completion future
+     * is completed whatever happens, so that nobody waits for it forever.
+     */
+    private void drain() {
+        try {
+            ByteBuffer buffer;
+            while ((buffer = filled.take()) != END) {
+                if (failure == null) {
+                    try {
+                        while (buffer.hasRemaining()) target.write(buffer);
+                    } catch (Throwable e) {
+                        fail(e);
+                    }
+                }
+                free.add(buffer.clear());
+            }
+        } catch (InterruptedException e) {
+            fail(new InterruptedIOException());
+        } finally {
+            try {
+                target.close();
+            } catch (Throwable e) {
+                fail(e);
+            }
+            completion.complete(null);
+        }
+    }
+
+    // Records the first error, reported by the completion future before being visible to the producer
+    private void fail(Throwable error) {
+        if (failure != null) return;
+        completion.completeExceptionally(error);
+        failure = error;
+    }
+
+    private void checkFailure() throws IOException {
+        var error = failure;
+        if (error != null) throw new IOException("Asynchronous write failed", error);
+    }
+
+    // Returns an empty buffer to fill, waiting for the writing thread to give one back if both are to be written
+    ByteBuffer take() throws IOException {
+        checkFailure();
+        try {
+            return free.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    // Hands a buffer given by take() to the writing thread, its bytes being those preceding its position
+    void handOff(ByteBuffer buffer) throws IOException {
+        checkFailure();
+        filled.add(buffer.flip());
+    }
+
+    private void handOff() throws IOException {
+        handOff(current);
+        current = null;
+    }
+
+    @Override
+    public int write(ByteBuffer source) throws IOException {
+        if (closed) throw new ClosedChannelException();
+        var written = source.remaining();
+        while (source.hasRemaining()) {
+            if (current == null) current = take();
+            var length = Math.min(source.remaining(), current.remaining());
+            current.put(current.position(), source, source.position(), length);
+            current.position(current.position() + length);
+            source.position(source.position() + length);
+            if (!current.hasRemaining()) handOff();
+        }
+        return written;
+    }
+
+    @Override
+    public long write(ByteBuffer[] sources, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, sources.length);
+        var written = 0L;
+        for (int i = offset; i < offset + length; i++) {
+            written += write(sources[i]);
+        }
+        return written;
+    }
+
+    @Override
+    public long write(ByteBuffer[] sources) throws IOException {
+        return write(sources, 0, sources.length);
+    }
+
+    CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    // Hands the remaining bytes and the end to the writing thread, without waiting for them to be written
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            if (current != null && current.position() > 0) handOff();
+        } finally {
+            filled.add(END);
+        }
+    }
+
+}
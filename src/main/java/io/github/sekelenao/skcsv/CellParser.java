@@ -0,0 +1,166 @@
+package io.github.sekelenao.skcsv;
+
+import java.time.LocalDate;
+
+/*
+ * Parses primitives straight from the content of a cell, without building a String.
+ *
+ * Each method has a fast path for the common shape of its values, made of ASCII chars only, which is parsed in a
+ * single pass with plain arithmetic. Any other content falls back to the parsing methods of the JDK, which give the
+ * same results and report the same errors: the fast paths only avoid their cost, never change their semantics.
+ */
+final class CellParser {
+
+    // Digits that cannot overflow an int or a long, whatever they are
+    private static final int SAFE_INT_DIGITS = 9;
+    private static final int SAFE_LONG_DIGITS = 18;
+
+    // Significant digits of a mantissa exactly representable as a double
+    private static final int EXACT_DOUBLE_DIGITS = 15;
+
+    // Powers of ten exactly representable as a double
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final long DAYS_0000_TO_1970 = 719_528;
+
+    private CellParser() {
+        throw new AssertionError("You cannot instantiate this class");
+    }
+
+    private static int digit(char c) {
+        return c - '0';
+    }
+
+    private static boolean isDigit(int digit) {
+        return digit >= 0 && digit <= 9;
+    }
+
+    // Index of the first digit after an optional sign, or -1 if there is nothing after the sign
+    private static int afterSign(CharSequence text, int length) {
+        if (length == 0) return -1;
+        var first = text.charAt(0);
+        var start = first == '-' || first == '+' ? 1 : 0;
+        return start == length ? -1 : start;
+    }
+
+    // Parses up to maxDigits ASCII digits from the start, or returns -1 if the text has another shape
+    private static long digits(CharSequence text, int start, int length, int maxDigits) {
+        if (start < 0 || length - start > maxDigits) return -1;
+        var value = 0L;
+        for (int i = start; i < length; i++) {
+            var digit = digit(text.charAt(i));
+            if (!isDigit(digit)) return -1;
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    static long parseLong(CharSequence text) {
+        var length = text.length();
+        var start = afterSign(text, length);
+        var value = digits(text, start, length, SAFE_LONG_DIGITS);
+        if (value < 0) return Long.parseLong(text, 0, length, 10);
+        return text.charAt(0) == '-' ? -value : value;
+    }
+
+    static int parseInt(CharSequence text) {
+        var length = text.length();
+        var start = afterSign(text, length);
+        var value = digits(text, start, length, SAFE_INT_DIGITS);
+        if (value < 0) return Integer.parseInt(text, 0, length, 10);
+        return (int) (text.charAt(0) == '-' ? -value : value);
+    }
+
+    /*
+     * Decimals with at most 15 significant digits and 22 fraction digits are computed exactly: the mantissa and the
+     * power of ten are both exact doubles, so that their quotient is correctly rounded, as Double.parseDouble is.
+     */
+    static double parseDouble(CharSequence text) {
+        var length = text.length();
+        var start = afterSign(text, length);
+        if (start >= 0) {
+            var mantissa = 0L;
+            var digits = 0;
+            var fraction = -1;
+            var i = start;
+            for (; i < length; i++) {
+                var c = text.charAt(i);
+                var digit = digit(c);
+                if (isDigit(digit)) {
+                    mantissa = mantissa * 10 + digit;
+                    digits++;
+                    if (fraction >= 0) fraction++;
+                } else if (c == '.' && fraction < 0) {
+                    fraction = 0;
+                } else {
+                    break;
+                }
+            }
+            if (i == length && digits > 0 && digits <= EXACT_DOUBLE_DIGITS) {
+                var value = fraction > 0 ? mantissa / POWERS_OF_TEN[fraction] : (double) mantissa;
+                return text.charAt(0) == '-' ? -value : value;
+            }
+        }
+        return Double.parseDouble(text.toString());
+    }
+
+    private static boolean matchesIgnoreCase(CharSequence text, String lowerCase) {
+        if (text.length() != lowerCase.length()) return false;
+        for (int i = 0; i < lowerCase.length(); i++) {
+            var c = text.charAt(i);
+            var expected = lowerCase.charAt(i);
+            if (c != expected && c != Character.toUpperCase(expected)) return false;
+        }
+        return true;
+    }
+
+    // Same as Boolean.parseBoolean: true if the text is "true", ignoring case
+    static boolean parseBoolean(CharSequence text) {
+        return matchesIgnoreCase(text, "true");
+    }
+
+    private static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int monthLength(int month, long year) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static int twoDigits(CharSequence text, int index) {
+        var tens = digit(text.charAt(index));
+        var units = digit(text.charAt(index + 1));
+        return isDigit(tens) && isDigit(units) ? tens * 10 + units : -1;
+    }
+
+    /*
+     * Same as LocalDate.parse(text).toEpochDay(), the ISO dates "yyyy-MM-dd" with a four-digit year being computed
+     * without any object, in the same way as LocalDate.toEpochDay.
+     */
+    static long parseEpochDay(CharSequence text) {
+        if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+            var high = twoDigits(text, 0);
+            var low = twoDigits(text, 2);
+            var month = twoDigits(text, 5);
+            var day = twoDigits(text, 8);
+            if (high >= 0 && low >= 0 && month >= 1 && month <= 12 && day >= 1) {
+                long year = high * 100 + low;
+                if (day <= monthLength(month, year)) {
+                    var total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+                    total += (367 * month - 362) / 12 + day - 1;
+                    if (month > 2) total -= isLeapYear(year) ? 1 : 2;
+                    return total - DAYS_0000_TO_1970;
+                }
+            }
+        }
+        return LocalDate.parse(text).toEpochDay();
+    }
+
+}
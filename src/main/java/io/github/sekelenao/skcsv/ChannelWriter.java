@@ -0,0 +1,235 @@
+package io.github.sekelenao.skcsv;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnmappableCharacterException;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Objects;
+
+/*
+ * Writes text to a channel, encoding its chars straight into direct byte buffers, without any intermediate array nor
+ * charset encoder.
+ *
+ * The chars are encoded in UTF-8, US-ASCII or ISO-8859-1. The chars encoded as a single byte, which are most of the
+ * chars of a CSV text, are copied by a plain loop, and the other ones are encoded one by one. Chars that cannot be
+ * encoded are reported as errors, as by the encoders of the charsets, a surrogate pair being unmappable as a whole.
+ * The buffers are filled in turn and drained all together by a single gathering write, so that the channel is written
+ * in large blocks. Over an AsyncChannel, the chars are instead encoded straight into the buffers it lends, each one
+ * being handed back to it once filled, so that the bytes are not copied before being written.
+ */
+final class ChannelWriter extends Writer {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final int BUFFERS = 4;
+
+    // Largest number of bytes of an encoded code point
+    private static final int MAX_BYTES = 4;
+
+    private final GatheringByteChannel channel;
+
+    // The channel lending its buffers, or null if the buffers of this writer are drained to the channel
+    private final AsyncChannel async;
+
+    private final ByteBuffer[] buffers = new ByteBuffer[BUFFERS];
+
+    // The buffer lent by the asynchronous channel, or null if none is being filled
+    private ByteBuffer borrowed;
+
+    // Chars below this one are encoded as a single byte
+    private final char singleByteLimit;
+
+    private final boolean utf8;
+
+    private int current;
+
+    // High surrogate waiting for its low surrogate, or 0
+    private char highSurrogate;
+
+    private boolean closed;
+
+    private ChannelWriter(GatheringByteChannel channel, AsyncChannel async, Charset charset) {
+        this.channel = channel;
+        this.async = async;
+        this.utf8 = charset.equals(StandardCharsets.UTF_8);
+        this.singleByteLimit = charset.equals(StandardCharsets.ISO_8859_1) ? '\u0100' : '\u0080';
+        if (async != null) return;
+        for (int i = 0; i < BUFFERS; i++) {
+            buffers[i] = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+    }
+
+    static boolean supports(Charset charset) {
+        return charset.equals(StandardCharsets.UTF_8)
+                || charset.equals(StandardCharsets.US_ASCII)
+                || charset.equals(StandardCharsets.ISO_8859_1);
+    }
+
+    static ChannelWriter of(GatheringByteChannel channel, Charset charset) {
+        return new ChannelWriter(Objects.requireNonNull(channel), null, charset);
+    }
+
+    static ChannelWriter of(AsyncChannel channel, Charset charset) {
+        return new ChannelWriter(Objects.requireNonNull(channel), channel, charset);
+    }
+
+    static ChannelWriter open(Path path, Charset charset, OpenOption... options) throws IOException {
+        return new ChannelWriter(openChannel(path, options), null, charset);
+    }
+
+    /*
+     * Opens the file for writing, with the same options as Files.newOutputStream: the file is created or truncated
+     * when no option is given, and opened for writing whatever the options.
+     */
+    static FileChannel openChannel(Path path, OpenOption... options) throws IOException {
+        var openOptions = new HashSet<OpenOption>();
+        if (options.length == 0) {
+            openOptions.add(StandardOpenOption.CREATE);
+            openOptions.add(StandardOpenOption.TRUNCATE_EXISTING);
+        } else {
+            for (var option : options) {
+                if (Objects.requireNonNull(option) == StandardOpenOption.READ) {
+                    throw new IllegalArgumentException("READ not allowed");
+                }
+                openOptions.add(option);
+            }
+        }
+        openOptions.add(StandardOpenOption.WRITE);
+        return FileChannel.open(path, openOptions);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) throw new IOException("Stream closed");
+    }
+
+    /*
+     * Writes the content of the buffers to the channel, in a single gathering write as long as it writes everything.
+     * The current buffer may be empty while the previous ones are not, so the bytes left are counted over all of them.
+     * Over an asynchronous channel, the buffer being filled is handed back to it instead.
+     */
+    private void drain() throws IOException {
+        if (async != null) {
+            if (borrowed != null && borrowed.position() > 0) {
+                async.handOff(borrowed);
+                borrowed = null;
+            }
+            return;
+        }
+        long remaining = 0;
+        for (int i = 0; i <= current; i++) {
+            remaining += buffers[i].flip().remaining();
+        }
+        while (remaining > 0) {
+            remaining -= channel.write(buffers, 0, current + 1);
+        }
+        for (int i = 0; i <= current; i++) {
+            buffers[i].clear();
+        }
+        current = 0;
+    }
+
+    // Returns a buffer with room for at least the specified number of bytes
+    private ByteBuffer buffer(int bytes) throws IOException {
+        if (async != null) {
+            if (borrowed != null && borrowed.remaining() >= bytes) return borrowed;
+            drain();
+            return borrowed = async.take();
+        }
+        if (buffers[current].remaining() < bytes) {
+            if (current == BUFFERS - 1) {
+                drain();
+            } else {
+                current++;
+            }
+        }
+        return buffers[current];
+    }
+
+    private void encode(char c) throws IOException {
+        var buffer = buffer(MAX_BYTES);
+        if (highSurrogate != 0) {
+            if (!Character.isLowSurrogate(c)) throw new MalformedInputException(1);
+            if (!utf8) throw new UnmappableCharacterException(2);
+            var codePoint = Character.toCodePoint(highSurrogate, c);
+            highSurrogate = 0;
+            buffer.put((byte) (0xF0 | codePoint >> 18))
+                    .put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                    .put((byte) (0x80 | codePoint >> 6 & 0x3F))
+                    .put((byte) (0x80 | codePoint & 0x3F));
+        } else if (c < singleByteLimit) {
+            buffer.put((byte) c);
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            throw new MalformedInputException(1);
+        } else if (!utf8) {
+            throw new UnmappableCharacterException(1);
+        } else if (c < 0x800) {
+            buffer.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+        } else {
+            buffer.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+        }
+    }
+
+    private void encode(CharSequence text, int from, int to) throws IOException {
+        var i = from;
+        while (i < to) {
+            if (highSurrogate == 0) {
+                var buffer = buffer(1);
+                var end = Math.min(to, i + buffer.remaining());
+                for (char c; i < end && (c = text.charAt(i)) < singleByteLimit; i++) {
+                    buffer.put((byte) c);
+                }
+                if (i == to) return;
+            }
+            encode(text.charAt(i++));
+        }
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        ensureOpen();
+        encode((char) c);
+    }
+
+    @Override
+    public void write(String text, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, text.length());
+        ensureOpen();
+        encode(text, offset, offset + length);
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+        ensureOpen();
+        encode(CharBuffer.wrap(chars), offset, offset + length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try (channel) {
+            drain();
+            if (highSurrogate != 0) throw new MalformedInputException(1);
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+package io.github.sekelenao.skcsv;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/*
+ * Parses a single file in parallel, cutting it into byte ranges that each start at the beginning of a record.
+ *
+ * Nominal ranges are cut at fixed offsets, then the quotes of each range are counted in parallel. In a valid CSV text,
+ * quotes only appear in quoted cells, either opening, closing or doubled: the parity of the quotes preceding an offset
+ * therefore tells whether this offset is inside a quoted cell. Knowing it, the first line break outside quotes after
+ * each nominal offset is looked for in parallel, and gives the real start of the next range. The ranges are finally
+ * parsed in parallel, and their rows are put back together in order.
+ */
+final class CsvChunks {
+
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private static final int SCAN_WINDOW_SIZE = 1 << 24;
+
+    private final FileChannel channel;
+
+    private final SkCsvConfig config;
+
+    private final Charset charset;
+
+    private final byte quote;
+
+    private final long size;
+
+    private CsvChunks(FileChannel channel, SkCsvConfig config, Charset charset) throws IOException {
+        this.channel = channel;
+        this.config = config;
+        this.charset = charset;
+        this.quote = (byte) config.quote();
+        this.size = channel.size();
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask<T> {
+
+        T compute() throws IOException;
+
+    }
+
+    private static <T> List<T> invokeAll(ForkJoinPool pool, List<ChunkTask<T>> chunkTasks) throws IOException {
+        var tasks = chunkTasks.stream()
+                .map(chunkTask -> ForkJoinTask.adapt(() -> {
+                    try {
+                        return chunkTask.compute();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }))
+                .toList();
+        tasks.forEach(pool::execute);
+        var results = new ArrayList<T>(tasks.size());
+        try {
+            for (var task : tasks) results.add(task.join());
+        } catch (UncheckedIOException e) {
+            tasks.forEach(task -> task.cancel(false));
+            throw e.getCause();
+        } catch (RuntimeException | Error e) {
+            tasks.forEach(task -> task.cancel(false));
+            throw e;
+        }
+        return results;
+    }
+
+    private MappedByteBuffer map(long from, long to) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+    }
+
+    // Returns 1 if the range contains an odd number of quotes, 0 otherwise
+    private int quoteParity(long from, long to) throws IOException {
+        var parity = 0;
+        for (long offset = from; offset < to; offset += SCAN_WINDOW_SIZE) {
+            var window = map(offset, Math.min(to, offset + SCAN_WINDOW_SIZE));
+            for (int i = 0; i < window.limit(); i++) {
+                if (window.get(i) == quote) parity ^= 1;
+            }
+        }
+        return parity;
+    }
+
+    // Returns the offset following the first record terminator at or after the given offset, or the size of the file
+    private long recordStart(long from, int parity) throws IOException {
+        for (long offset = from; offset < size; offset += SCAN_WINDOW_SIZE) {
+            var window = map(offset, Math.min(size, offset + SCAN_WINDOW_SIZE + 1));
+            var limit = (int) Math.min(SCAN_WINDOW_SIZE, size - offset);
+            for (int i = 0; i < limit; i++) {
+                var b = window.get(i);
+                if (b == quote) {
+                    parity ^= 1;
+                } else if (parity == 0 && (b == '\n' || b == '\r')) {
+                    var next = i + 1 < window.limit() && b == '\r' && window.get(i + 1) == '\n' ? i + 2 : i + 1;
+                    return offset + next;
+                }
+            }
+        }
+        return size;
+    }
+
+    private List<SkCsvRow> parse(long from, long to) throws IOException {
+        var rows = new ArrayList<SkCsvRow>();
+        var source = new SkCsvReader.MappedSource(channel, config, charset, from, to);
+        SkCsvRow row;
+        while ((row = source.parseNext()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private long[] boundaries(ForkJoinPool pool) throws IOException {
+        var count = (int) Math.max(1, Math.min(size / MIN_CHUNK_SIZE, (long) pool.getParallelism() * CHUNKS_PER_THREAD));
+        var nominal = new long[count + 1];
+        for (int i = 0; i <= count; i++) {
+            nominal[i] = size * i / count;
+        }
+        var parities = new ArrayList<ChunkTask<Integer>>(count);
+        for (int i = 0; i < count; i++) {
+            var from = nominal[i];
+            var to = nominal[i + 1];
+            parities.add(() -> quoteParity(from, to));
+        }
+        var parityByChunk = invokeAll(pool, parities);
+        var starts = new ArrayList<ChunkTask<Long>>(count - 1);
+        var parity = 0;
+        for (int i = 1; i < count; i++) {
+            parity ^= parityByChunk.get(i - 1);
+            var from = nominal[i];
+            var knownParity = parity;
+            starts.add(() -> recordStart(from, knownParity));
+        }
+        var startByChunk = invokeAll(pool, starts);
+        var boundaries = new long[count + 1];
+        boundaries[count] = size;
+        for (int i = 1; i < count; i++) {
+            boundaries[i] = Math.max(boundaries[i - 1], startByChunk.get(i - 1));
+        }
+        return boundaries;
+    }
+
+    private SkCsv split(ForkJoinPool pool) throws IOException {
+        var boundaries = boundaries(pool);
+        var chunks = new ArrayList<ChunkTask<List<SkCsvRow>>>(boundaries.length - 1);
+        for (int i = 0; i < boundaries.length - 1; i++) {
+            var from = boundaries[i];
+            var to = boundaries[i + 1];
+            if (from < to) chunks.add(() -> parse(from, to));
+        }
+        var csv = new SkCsv();
+        for (var rows : invokeAll(pool, chunks)) {
+            csv.addAll(rows);
+        }
+        return csv;
+    }
+
+    static SkCsv split(Path path, SkCsvConfig config, Charset charset, ForkJoinPool pool) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new CsvChunks(channel, config, charset).split(pool);
+        }
+    }
+
+}
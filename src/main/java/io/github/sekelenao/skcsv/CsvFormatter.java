@@ -2,116 +2,918 @@ package io.github.sekelenao.skcsv;
 
 import io.github.sekelenao.skcsv.exception.CsvParsingException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 final class CsvFormatter {
 
-    private static final class CsvBuffer {
+    /*
+     * Accumulates the units of a whole record, the Strings of its cells being only built once the record is complete:
+     * nothing is allocated for the records rejected by a filter, nor for the cells that are not selected.
+     */
+    private abstract static class CsvBuffer {
 
-        private final SkCsv csv;
+        private static final int DEFAULT_CELLS = 16;
 
-        private SkCsvRow row;
+        private static final int DICTIONARY_SIZE = 1 << 10;
 
-        private StringBuilder cell;
+        private static final int MAX_INTERNED_LENGTH = 64;
 
-        private CsvBuffer() {
-            this.csv = new SkCsv();
-            this.row = new SkCsvRow();
-            this.cell = new StringBuilder();
+        private boolean started;
+
+        // Slot of each selected column in the projected row, -1 for the other columns, null if every column is kept
+        private int[] slots;
+
+        private int width;
+
+        // Filter of each column, null for the columns without filter
+        private Predicate<String>[] filters;
+
+        private int lastFiltered = -1;
+
+        private int column;
+
+        // Whether the units of the current cell are stored, those of the other cells being dropped
+        boolean keeps = true;
+
+        private boolean rejected;
+
+        // Number of the next records to skip, only scanned for their end
+        private long skipping;
+
+        private int cellStart;
+
+        // Bounds and slot of each stored cell, with its String if it has already been built for a filter
+        private int[] starts = new int[DEFAULT_CELLS];
+
+        private int[] ends = new int[DEFAULT_CELLS];
+
+        private int[] cellSlots = new int[DEFAULT_CELLS];
+
+        private String[] values = new String[DEFAULT_CELLS];
+
+        private int stored;
+
+        // Stored index of each slot of an accepted projected record, -1 for the missing cells
+        private int[] storedOfSlot = new int[0];
+
+        // Last Strings built for each slot, indexed by hash, null if interning is disabled
+        private String[][] dictionaries;
+
+        abstract void appendUnit(int unit);
+
+        abstract int length();
+
+        abstract void truncate(int length);
+
+        abstract String toString(int from, int to);
+
+        abstract int hash(int from, int to);
+
+        abstract boolean matches(String value, int from, int to);
+
+        String preview(int from, int to) {
+            return toString(from, to);
+        }
+
+        final void appendToCell(int unit) {
+            if (keeps) appendUnit(unit);
+        }
+
+        private void project(int[] columns) {
+            slots = checkColumns(columns);
+            width = columns.length;
+            nextColumn(0);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void filter(int filtered, Predicate<String> predicate) {
+            checkColumns(filtered);
+            if (filters == null) filters = (Predicate<String>[]) new Predicate<?>[filtered + 1];
+            else if (filters.length <= filtered) filters = Arrays.copyOf(filters, filtered + 1);
+            var previous = filters[filtered];
+            filters[filtered] = previous == null ? predicate : previous.and(predicate);
+            lastFiltered = Math.max(lastFiltered, filtered);
+            nextColumn(0);
+        }
+
+        private void skip(long records) {
+            skipping = records;
+            rejected = records > 0;
+            nextColumn(0);
+        }
+
+        private void intern() {
+            if (dictionaries == null) dictionaries = new String[DEFAULT_CELLS][];
+        }
+
+        /*
+         * Returns the String of the given units, looking for it first in the dictionary of the slot. A dictionary is a
+         * direct-mapped cache: a String replaces the previous one having the same index, which bounds its size. Only
+         * Strings having one char per unit are stored, so that units and chars can be compared without decoding.
+         */
+        private String cellValue(int slot, int from, int to) {
+            if (dictionaries == null || slot < 0 || to - from > MAX_INTERNED_LENGTH) return toString(from, to);
+            if (slot >= dictionaries.length) dictionaries = Arrays.copyOf(dictionaries, Math.max(slot + 1, dictionaries.length << 1));
+            var dictionary = dictionaries[slot];
+            if (dictionary == null) dictionary = dictionaries[slot] = new String[DICTIONARY_SIZE];
+            var index = hash(from, to) & (DICTIONARY_SIZE - 1);
+            var entry = dictionary[index];
+            if (entry != null && matches(entry, from, to)) return entry;
+            var value = toString(from, to);
+            if (value.length() == to - from) dictionary[index] = value;
+            return value;
+        }
+
+        private Predicate<String> filterOf(int filtered) {
+            return filters == null || filtered >= filters.length ? null : filters[filtered];
         }
 
-        private void appendToCell(char c) {
-            cell.append(c);
+        private int slotOf(int selected) {
+            if (slots == null) return selected;
+            return selected < slots.length ? slots[selected] : -1;
+        }
+
+        private void nextColumn(int next) {
+            column = next;
+            keeps = !rejected && (slotOf(column) >= 0 || filterOf(column) != null);
+        }
+
+        private void store(int end, int slot, String value) {
+            if (stored == starts.length) {
+                var capacity = stored << 1;
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                cellSlots = Arrays.copyOf(cellSlots, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            starts[stored] = cellStart;
+            ends[stored] = end;
+            cellSlots[stored] = slot;
+            values[stored++] = value;
+        }
+
+        private void clearRecord() {
+            truncate(0);
+            Arrays.fill(values, 0, stored, null);
+            stored = 0;
+            cellStart = 0;
         }
 
         private void pushCell() {
-            row.add(cell.toString());
-            cell = new StringBuilder();
+            if (keeps) {
+                var end = length();
+                var filter = filterOf(column);
+                var slot = slotOf(column);
+                String value = null;
+                if (filter != null && !filter.test(value = cellValue(slot, cellStart, end))) {
+                    rejected = true;
+                    clearRecord();
+                } else {
+                    if (slot >= 0) store(end, slot, value);
+                    else truncate(cellStart);
+                }
+            }
+            cellStart = length();
+            nextColumn(column + 1);
+        }
+
+        /*
+         * Returns true if the record is accepted, its cells staying available until nextRecord(). A record is rejected
+         * by a filter, when it lacks a filtered column, or when it is skipped.
+         */
+        private boolean endRecord() {
+            var accepted = !rejected && column > lastFiltered;
+            if (skipping > 0) skipping--;
+            started = false;
+            if (!accepted) {
+                nextRecord();
+            } else if (slots != null) {
+                if (storedOfSlot.length < width) storedOfSlot = new int[width];
+                Arrays.fill(storedOfSlot, 0, width, -1);
+                for (int i = 0; i < stored; i++) {
+                    storedOfSlot[cellSlots[i]] = i;
+                }
+            }
+            return accepted;
+        }
+
+        private void nextRecord() {
+            clearRecord();
+            rejected = skipping > 0;
+            nextColumn(0);
+        }
+
+        private int size() {
+            return slots == null ? stored : width;
+        }
+
+        private int storedIndex(int slot) {
+            return slots == null ? slot : storedOfSlot[slot];
+        }
+
+        private String cellString(int slot) {
+            var index = storedIndex(slot);
+            if (index < 0) return "";
+            var value = values[index];
+            return value != null ? value : cellValue(slot, starts[index], ends[index]);
+        }
+
+        private SkCsvRow buildRow() {
+            var size = size();
+            var row = size == 0 ? new SkCsvRow() : new SkCsvRow(size);
+            for (int i = 0; i < stored; i++) {
+                var slot = cellSlots[i];
+                var value = values[i];
+                row.set(slot, value != null ? value : cellValue(slot, starts[i], ends[i]));
+            }
+            return row;
+        }
+
+        private void slice(int slot, CellSlice slice) {
+            var index = storedIndex(slot);
+            if (index < 0) slice(slice, 0, 0);
+            else slice(slice, starts[index], ends[index]);
+        }
+
+        abstract char unitAt(int index);
+
+        void slice(CellSlice slice, int from, int to) {
+            slice.buffer = this;
+            slice.from = from;
+            slice.length = to - from;
+            slice.decodes = false;
+        }
+
+    }
+
+    private static final class CharCsvBuffer extends CsvBuffer {
+
+        private final StringBuilder record = new StringBuilder();
+
+        @Override
+        void appendUnit(int unit) {
+            record.append((char) unit);
+        }
+
+        private void appendRun(char[] chars, int from, int to) {
+            if (keeps) record.append(chars, from, to - from);
+        }
+
+        @Override
+        int length() {
+            return record.length();
+        }
+
+        @Override
+        void truncate(int length) {
+            record.setLength(length);
+        }
+
+        @Override
+        String toString(int from, int to) {
+            return record.substring(from, to);
+        }
+
+        @Override
+        char unitAt(int index) {
+            return record.charAt(index);
         }
 
-        private void pushRow(){
-            csv.add(row);
-            row = new SkCsvRow();
+        @Override
+        int hash(int from, int to) {
+            var hash = 0;
+            for (int i = from; i < to; i++) {
+                hash = 31 * hash + record.charAt(i);
+            }
+            return hash;
         }
 
-        private boolean notEmpty() {
-            return !cell.isEmpty();
+        @Override
+        boolean matches(String value, int from, int to) {
+            if (value.length() != to - from) return false;
+            for (int i = from; i < to; i++) {
+                if (record.charAt(i) != value.charAt(i - from)) return false;
+            }
+            return true;
         }
 
     }
 
-    private enum QuoteState {ENCOUNTERED, IN, OUT}
+    /*
+     * Accumulates the raw bytes of a record, decoding a cell only once the record is complete. Cells made of ASCII
+     * bytes only, and any cell in ISO-8859-1, are turned into Strings without any decoder, their bytes being their chars.
+     */
+    private static final class ByteCsvBuffer extends CsvBuffer {
+
+        private final CharsetDecoder decoder;
+
+        private final boolean latin1;
+
+        private byte[] record = new byte[256];
+
+        private ByteBuffer wrapped = ByteBuffer.wrap(record);
+
+        private int size;
+
+        private CharBuffer decoded = CharBuffer.allocate(64);
+
+        private ByteCsvBuffer(Charset charset) {
+            this.decoder = charset.newDecoder();
+            this.latin1 = StandardCharsets.ISO_8859_1.equals(charset);
+        }
+
+        private void grow(int capacity) {
+            record = Arrays.copyOf(record, Math.max(capacity, size << 1));
+            wrapped = ByteBuffer.wrap(record);
+        }
+
+        @Override
+        void appendUnit(int unit) {
+            if (size == record.length) grow(size + 1);
+            record[size++] = (byte) unit;
+        }
+
+        private void appendRun(ByteBuffer bytes, int from, int to) {
+            var length = to - from;
+            if (size + length > record.length) grow(size + length);
+            bytes.get(from, record, size, length);
+            size += length;
+        }
+
+        @Override
+        int length() {
+            return size;
+        }
+
+        @Override
+        void truncate(int length) {
+            size = length;
+        }
+
+        private boolean ascii(int from, int to) {
+            var bits = 0;
+            for (int i = from; i < to; i++) {
+                bits |= record[i];
+            }
+            return bits >= 0;
+        }
+
+        // Decodes the given bytes into the given buffer, or into a larger one if it is too small
+        private CharBuffer decode(int from, int to, CharBuffer chars) {
+            var length = to - from;
+            if (chars == null || chars.capacity() < length) {
+                chars = CharBuffer.allocate(Math.max(length, chars == null ? 64 : chars.capacity() << 1));
+            }
+            chars.clear();
+            decoder.reset();
+            var bytes = wrapped.limit(to).position(from);
+            var result = decoder.decode(bytes, chars, true);
+            if (result.isUnderflow()) result = decoder.flush(chars);
+            if (result.isError()) {
+                try {
+                    result.throwException();
+                } catch (CharacterCodingException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return chars.flip();
+        }
+
+        @Override
+        String toString(int from, int to) {
+            if (latin1 || ascii(from, to)) return new String(record, from, to - from, StandardCharsets.ISO_8859_1);
+            decoded = decode(from, to, decoded);
+            return decoded.toString();
+        }
+
+        @Override
+        char unitAt(int index) {
+            return (char) (record[index] & 0xFF);
+        }
+
+        @Override
+        void slice(CellSlice slice, int from, int to) {
+            if (latin1 || ascii(from, to)) {
+                super.slice(slice, from, to);
+            } else {
+                slice.decoded = decode(from, to, slice.decoded);
+                slice.decodes = true;
+            }
+        }
+
+        @Override
+        int hash(int from, int to) {
+            var hash = 0;
+            for (int i = from; i < to; i++) {
+                hash = 31 * hash + (record[i] & 0xFF);
+            }
+            return hash;
+        }
+
+        @Override
+        boolean matches(String value, int from, int to) {
+            if (value.length() != to - from) return false;
+            for (int i = from; i < to; i++) {
+                if ((record[i] & 0xFF) != value.charAt(i - from)) return false;
+            }
+            return true;
+        }
+
+        @Override
+        String preview(int from, int to) {
+            return new String(record, from, to - from, decoder.charset());
+        }
+
+    }
+
+    /*
+     * Cell of the record being parsed, read in place in the parse buffer. Cells that need decoding are decoded into a
+     * reusable buffer of the slice.
+     */
+    static final class CellSlice implements CharSequence {
+
+        private CsvBuffer buffer;
+
+        private int from;
+
+        private int length;
+
+        private CharBuffer decoded;
+
+        private boolean decodes;
+
+        @Override
+        public int length() {
+            return decodes ? decoded.limit() : length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, length());
+            return decodes ? decoded.get(index) : buffer.unitAt(from + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length());
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return decodes ? decoded.toString() : buffer.toString(from, from + length);
+        }
+
+    }
+
+    /*
+     * The tokenizer is a DFA: each unit is given a class by a table specialized for the configuration, and the pair
+     * (state, class) indexes a shared table of transitions, each giving the next state and the action to perform.
+     */
+    private static final int PLAIN = 0;
+    private static final int QUOTE = 1;
+    private static final int DELIMITER = 2;
+    private static final int CARRIAGE_RETURN = 3;
+    private static final int LINE_FEED = 4;
+    private static final int INVALID = 5;
+    private static final int CLASSES = 6;
+
+    // States, the "after CR" ones skipping a line feed that would complete a "\r\n"
+    private static final int CELL_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_ENCOUNTERED = 3;
+    private static final int AFTER_CR = 4;
+    private static final int QUOTED_AFTER_CR = 5;
+    private static final int STATES = 6;
+
+    private static final int APPEND = 0;
+    private static final int MOVE = 1;
+    private static final int APPEND_QUOTE = 2;
+    private static final int PUSH_CELL = 3;
+    private static final int END_RECORD = 4;
+    private static final int APPEND_LINE_FEED = 5;
+    private static final int SKIP = 6;
+    private static final int QUOTE_ERROR = 7;
+    private static final int CHAR_ERROR = 8;
+    private static final int INVALID_ERROR = 9;
+
+    private static final int ACTION_SHIFT = 3;
+    private static final int STATE_MASK = (1 << ACTION_SHIFT) - 1;
+
+    private static final byte[] TRANSITIONS = transitions();
+
+    private static void transition(byte[] table, int state, int unitClass, int action, int next) {
+        table[state * CLASSES + unitClass] = (byte) (action << ACTION_SHIFT | next);
+    }
+
+    private static byte[] transitions() {
+        var table = new byte[STATES * CLASSES];
+        for (var state : new int[]{CELL_START, UNQUOTED, AFTER_CR}) {
+            transition(table, state, PLAIN, APPEND, UNQUOTED);
+            transition(table, state, QUOTE, state == UNQUOTED ? QUOTE_ERROR : MOVE, QUOTED);
+            transition(table, state, DELIMITER, PUSH_CELL, CELL_START);
+            transition(table, state, CARRIAGE_RETURN, END_RECORD, AFTER_CR);
+            transition(table, state, LINE_FEED, state == AFTER_CR ? SKIP : END_RECORD, CELL_START);
+            transition(table, state, INVALID, INVALID_ERROR, state);
+        }
+        for (var state : new int[]{QUOTED, QUOTED_AFTER_CR}) {
+            transition(table, state, PLAIN, APPEND, QUOTED);
+            transition(table, state, QUOTE, MOVE, QUOTE_ENCOUNTERED);
+            transition(table, state, DELIMITER, APPEND, QUOTED);
+            transition(table, state, CARRIAGE_RETURN, APPEND_LINE_FEED, QUOTED_AFTER_CR);
+            transition(table, state, LINE_FEED, state == QUOTED_AFTER_CR ? SKIP : APPEND_LINE_FEED, QUOTED);
+            transition(table, state, INVALID, APPEND, QUOTED);
+        }
+        transition(table, QUOTE_ENCOUNTERED, PLAIN, CHAR_ERROR, QUOTE_ENCOUNTERED);
+        transition(table, QUOTE_ENCOUNTERED, QUOTE, APPEND_QUOTE, QUOTED);
+        transition(table, QUOTE_ENCOUNTERED, DELIMITER, PUSH_CELL, CELL_START);
+        transition(table, QUOTE_ENCOUNTERED, CARRIAGE_RETURN, END_RECORD, AFTER_CR);
+        transition(table, QUOTE_ENCOUNTERED, LINE_FEED, END_RECORD, CELL_START);
+        transition(table, QUOTE_ENCOUNTERED, INVALID, CHAR_ERROR, QUOTE_ENCOUNTERED);
+        return table;
+    }
+
+    private static final int NO_RECORD = -1;
 
     private final char quote;
     private final char delimiter;
-    private QuoteState quoteState = QuoteState.OUT;
+    private final Charset charset;
+    private final StructuralScanner scanner;
+    // Class of each unit below its length, the other units being plain
+    private final byte[] classes;
+    private int state = CELL_START;
+    private CsvBuffer buffer;
+    private boolean completed;
+    // Number of records completed, accepted or not
+    private long records;
+    private char[] lineChars = new char[0];
+    // Text of the record up to the unit breaking the format, completed by the parsing loops with the rest of the record
+    private String failure;
 
     CsvFormatter(SkCsvConfig configuration) {
         Objects.requireNonNull(configuration);
         this.quote = configuration.quote();
         this.delimiter = configuration.delimiter();
+        this.charset = null;
+        this.scanner = null;
+        this.classes = classes(quote, delimiter);
+        this.buffer = new CharCsvBuffer();
+    }
+
+    // Formatter parsing raw bytes, see parsesBytes(SkCsvConfig, Charset)
+    CsvFormatter(SkCsvConfig configuration, Charset charset) {
+        SkAssertions.requireNonNulls(configuration, charset);
+        if (!parsesBytes(configuration, charset)) throw new IllegalArgumentException("Cannot parse bytes of " + charset);
+        this.quote = configuration.quote();
+        this.delimiter = configuration.delimiter();
+        this.charset = charset;
+        this.scanner = StructuralScanner.of(quote, delimiter);
+        this.classes = classes(quote, delimiter);
+        this.buffer = new ByteCsvBuffer(charset);
+    }
+
+    private static byte[] classes(char quote, char delimiter) {
+        var classes = new byte[Math.max(0x100, Math.max(quote, delimiter) + 1)];
+        classes['\0'] = INVALID;
+        classes['\b'] = INVALID;
+        classes['\f'] = INVALID;
+        classes['\r'] = CARRIAGE_RETURN;
+        classes['\n'] = LINE_FEED;
+        classes[quote] = QUOTE;
+        classes[delimiter] = DELIMITER;
+        return classes;
+    }
+
+    /*
+     * Bytes can be parsed without decoding when every structural char is encoded as a single byte that cannot be
+     * part of another char: ASCII chars in UTF-8 and US-ASCII, any char of ISO-8859-1.
+     */
+    static boolean parsesBytes(SkCsvConfig configuration, Charset charset) {
+        int bound;
+        if (StandardCharsets.ISO_8859_1.equals(charset)) bound = 0x100;
+        else if (StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)) bound = 0x80;
+        else return false;
+        return configuration.quote() < bound && configuration.delimiter() < bound;
+    }
+
+    private int classOf(int unit) {
+        return unit < classes.length ? classes[unit] : PLAIN;
+    }
+
+    private boolean inQuotes() {
+        return state == QUOTED || state == QUOTED_AFTER_CR;
     }
 
-    private void treatDelimiter(CsvBuffer buffer) {
-        switch (quoteState) {
-            case OUT -> buffer.pushCell();
-            case IN -> buffer.appendToCell(delimiter);
-            case ENCOUNTERED -> {
+    // Performs the transition of the unit, returns true if it completes a record
+    private boolean step(int unit, int unitClass) {
+        var transition = TRANSITIONS[state * CLASSES + unitClass];
+        state = transition & STATE_MASK;
+        switch (transition >>> ACTION_SHIFT) {
+            case APPEND -> {
+                buffer.started = true;
+                buffer.appendToCell(unit);
+            }
+            case MOVE -> buffer.started = true;
+            case APPEND_QUOTE -> buffer.appendToCell(quote);
+            case PUSH_CELL -> {
+                buffer.started = true;
+                buffer.pushCell();
+            }
+            case END_RECORD -> {
+                records++;
                 buffer.pushCell();
-                quoteState = QuoteState.OUT;
+                completed = buffer.endRecord();
+                return completed;
             }
+            case APPEND_LINE_FEED -> buffer.appendToCell('\n');
+            case QUOTE_ERROR -> throw failure(parsed(false));
+            case CHAR_ERROR -> throw failure(parsed(true) + quote);
+            case INVALID_ERROR -> SkAssertions.validChar(unit);
+            default -> {/*skip*/}
+        }
+        return false;
+    }
+
+    /*
+     * Returns the cells of the record being parsed, formatted as they would be written, followed by the current cell,
+     * after its opening quote and with its quotes doubled if it is quoted.
+     */
+    private String parsed(boolean quoted) {
+        var text = new StringBuilder();
+        for (int i = 0; i < buffer.stored; i++) {
+            appendCell(buffer.preview(buffer.starts[i], buffer.ends[i]), text);
+            text.append(delimiter);
         }
+        var current = buffer.preview(buffer.cellStart, buffer.length());
+        if (!quoted) return text.append(current).toString();
+        var escaped = String.valueOf(quote);
+        return text.append(quote).append(current.replace(escaped, escaped + quote)).toString();
+    }
+
+    private CsvParsingException failure(String parsed) {
+        failure = parsed;
+        return new CsvParsingException(parsed);
     }
 
-    private void treatQuote(CsvBuffer buffer, String text) {
-        switch (quoteState) {
-            case OUT -> {
-                if (buffer.notEmpty()) throw new CsvParsingException(text);
-                quoteState = QuoteState.IN;
+    // Completes the failure with the rest of the record, from the unit breaking the format to the end of the line
+    private CsvParsingException failed(CsvParsingException error, CharSequence rest) {
+        if (failure == null) return error;
+        var end = 0;
+        while (end < rest.length() && rest.charAt(end) != '\n' && rest.charAt(end) != '\r') end++;
+        var parsed = failure + rest.subSequence(0, end);
+        failure = null;
+        return new CsvParsingException(parsed);
+    }
+
+    // State following a run of plain units, which are appended in bulk
+    private void enterRun(int unit) {
+        if (state == QUOTE_ENCOUNTERED) step(unit, PLAIN);
+        state = inQuotes() ? QUOTED : UNQUOTED;
+        buffer.started = true;
+    }
+
+    /*
+     * Parses chars until the end of a record, '\n', '\r' and "\r\n" being record terminators outside quotes.
+     * Returns the index following the terminator, the record being available through takeRow(), or -1 if the whole
+     * range has been consumed without completing a record. The parsing state is kept between calls.
+     */
+    int parse(char[] chars, int from, int to) {
+        Objects.checkFromToIndex(from, to, chars.length);
+        release();
+        var cells = (CharCsvBuffer) buffer;
+        var i = from;
+        try {
+            while (i < to) {
+                var c = chars[i];
+                var unitClass = classOf(c);
+                if (unitClass == PLAIN) {
+                    var end = i + 1;
+                    while (end < to && classOf(chars[end]) == PLAIN) end++;
+                    enterRun(c);
+                    cells.appendRun(chars, i, end);
+                    i = end;
+                } else {
+                    if (step(c, unitClass)) return i + 1;
+                    i++;
+                }
             }
-            case IN -> quoteState = QuoteState.ENCOUNTERED;
-            case ENCOUNTERED -> {
-                buffer.appendToCell(quote);
-                quoteState = QuoteState.IN;
+        } catch (CsvParsingException e) {
+            throw failed(e, CharBuffer.wrap(chars, i, to - i));
+        }
+        return NO_RECORD;
+    }
+
+    private void appendRun(ByteCsvBuffer cells, ByteBuffer bytes, int from, int to) {
+        enterRun(bytes.get(from) & 0xFF);
+        if (cells.keeps) cells.appendRun(bytes, from, to);
+    }
+
+    /*
+     * Same as parse(char[], int, int) over raw bytes, for a formatter built with a charset. Only the structural bytes
+     * found by the scanner go through the state machine, the runs of plain bytes between them being copied in bulk.
+     */
+    int parse(ByteBuffer bytes, int from, int to) {
+        Objects.checkFromToIndex(from, to, bytes.limit());
+        if (charset == null) throw new IllegalStateException("Formatter does not parse bytes");
+        release();
+        var cells = (ByteCsvBuffer) buffer;
+        // Start of the run or of the structural unit being parsed
+        var runStart = from;
+        try {
+            for (int block = from; block < to; block += StructuralScanner.BLOCK_SIZE) {
+                var blockEnd = Math.min(to, block + StructuralScanner.BLOCK_SIZE);
+                var mask = scanner.scan(bytes, block, blockEnd);
+                runStart = block;
+                while (mask != 0) {
+                    var index = block + Long.numberOfTrailingZeros(mask);
+                    mask &= mask - 1;
+                    if (index > runStart) appendRun(cells, bytes, runStart, index);
+                    runStart = index;
+                    var unit = bytes.get(index) & 0xFF;
+                    if (step(unit, classes[unit])) return index + 1;
+                    runStart = index + 1;
+                }
+                if (blockEnd > runStart) appendRun(cells, bytes, runStart, blockEnd);
             }
+        } catch (CsvParsingException e) {
+            var end = runStart;
+            while (end < to && bytes.get(end) != '\n' && bytes.get(end) != '\r') end++;
+            throw failed(e, charset.decode(bytes.slice(runStart, end - runStart)));
+        }
+        return NO_RECORD;
+    }
+
+    // Frees the cells of the last completed record, before parsing the next one
+    private void release() {
+        if (completed) {
+            completed = false;
+            buffer.nextRecord();
+        }
+    }
+
+    private void requireCompleted() {
+        if (!completed) throw new IllegalStateException("No completed record");
+    }
+
+    // Returns the last completed record as a row, or null if there is none
+    SkCsvRow takeRow() {
+        if (!completed) return null;
+        var row = buffer.buildRow();
+        release();
+        return row;
+    }
+
+    // The accessors below read the last completed record in place, until the next call to a parsing method
+    int recordSize() {
+        requireCompleted();
+        return buffer.size();
+    }
+
+    CharSequence cell(int index, CellSlice slice) {
+        requireCompleted();
+        Objects.checkIndex(index, buffer.size());
+        buffer.slice(index, slice);
+        return slice;
+    }
+
+    String cellString(int index) {
+        requireCompleted();
+        Objects.checkIndex(index, buffer.size());
+        return buffer.cellString(index);
+    }
+
+    SkCsvRow recordToRow() {
+        requireCompleted();
+        return buffer.buildRow();
+    }
+
+    // Returns true if the text ends with a record without terminator, available until the next parsing call
+    boolean endOfText(){
+        release();
+        if (inQuotes())
+            throw new CsvParsingException(parsed(true));
+        state = CELL_START;
+        if (!buffer.started) return false;
+        return step('\n', LINE_FEED);
+    }
+
+    // Whether the last completed record ended with a '\r', a following '\n' then belonging to its terminator
+    boolean endedWithCarriageReturn() {
+        return state == AFTER_CR;
+    }
+
+    long records() {
+        return records;
+    }
+
+    // Drops the record being parsed, the next unit starting a new record preceded by the given number of records
+    void restart(long records, boolean afterCarriageReturn) {
+        release();
+        buffer.started = false;
+        buffer.nextRecord();
+        state = afterCarriageReturn ? AFTER_CR : CELL_START;
+        this.records = records;
+    }
+
+    // Returns the slot of each column in the given selection, -1 for the columns that are not selected
+    static int[] checkColumns(int... columns) {
+        Objects.requireNonNull(columns);
+        var length = 0;
+        for (var column : columns) {
+            if (column < 0) throw new IllegalArgumentException("Negative column: " + column);
+            length = Math.max(length, column + 1);
+        }
+        var slots = new int[length];
+        Arrays.fill(slots, -1);
+        for (int slot = 0; slot < columns.length; slot++) {
+            if (slots[columns[slot]] >= 0) throw new IllegalArgumentException("Duplicate column: " + columns[slot]);
+            slots[columns[slot]] = slot;
         }
+        return slots;
     }
 
-    private void treatChar(CsvBuffer buffer, char c, String text){
-        Objects.requireNonNull(buffer);
-        Objects.requireNonNull(text);
-        switch (quoteState){
-            case OUT -> {
-                SkAssertions.validChar(c);
-                buffer.appendToCell(c);
+    /*
+     * Keeps only the given columns, in the given order, in the next rows. The cells of the other columns are still
+     * parsed, so that malformed records are reported, but their content is never copied.
+     */
+    void project(int... columns) {
+        Objects.requireNonNull(columns);
+        if (buffer.started) throw new IllegalStateException("Cannot project a record being parsed");
+        buffer.project(columns);
+    }
+
+    /*
+     * Drops the next records whose cell in the given column does not match the predicate. The predicate is tested as
+     * soon as the cell is complete, the rest of a rejected record being only scanned for its end.
+     */
+    void filter(int column, Predicate<String> predicate) {
+        Objects.requireNonNull(predicate);
+        if (buffer.started) throw new IllegalStateException("Cannot filter a record being parsed");
+        buffer.filter(column, predicate);
+    }
+
+    // Hands out the same String for the repeated short cells of a column
+    void intern() {
+        buffer.intern();
+    }
+
+    // Drops the next records, which are only scanned for their end
+    void skip(long records) {
+        SkAssertions.positive(records);
+        if (buffer.started) throw new IllegalStateException("Cannot skip a record being parsed");
+        buffer.skip(records);
+    }
+
+    void reset(){
+        state = CELL_START;
+        records = 0;
+        buffer = charset == null ? new CharCsvBuffer() : new ByteCsvBuffer(charset);
+        completed = false;
+    }
+
+    // Returns null while the record goes on with the next line (quoted line break)
+    SkCsvRow parseLine(String line){
+        Objects.requireNonNull(line);
+        release();
+        var length = line.length();
+        if (lineChars.length < length) lineChars = new char[length];
+        line.getChars(0, length, lineChars, 0);
+        var i = 0;
+        try {
+            for (; i < length; i++) {
+                var c = lineChars[i];
+                var unitClass = classOf(c);
+                step(c, unitClass == CARRIAGE_RETURN || unitClass == LINE_FEED ? INVALID : unitClass);
             }
-            case IN -> buffer.appendToCell(c);
-            case ENCOUNTERED -> throw new CsvParsingException(text);
+        } catch (CsvParsingException e) {
+            throw failed(e, line.substring(i));
         }
+        return step('\n', LINE_FEED) ? takeRow() : null;
     }
 
     SkCsv split(Iterable<String> lines){
         Objects.requireNonNull(lines);
-        quoteState = QuoteState.OUT;
-        var buffer = new CsvBuffer();
+        reset();
+        var csv = new SkCsv();
         for(var line : lines){
-            var chars = line.toCharArray();
-            for (char c : chars) {
-                if (c == quote) treatQuote(buffer, line);
-                else if (c == delimiter) treatDelimiter(buffer);
-                else treatChar(buffer, c, line);
-            }
-            if(quoteState != QuoteState.IN){
-                buffer.pushCell();
-                buffer.pushRow();
-                quoteState = QuoteState.OUT;
-            } else {
-                buffer.appendToCell('\n');
-            }
+            var row = parseLine(line);
+            if(row != null) csv.add(row);
         }
-        if (quoteState == QuoteState.IN)
-            throw new CsvParsingException(buffer.row.toString());
-        return buffer.csv;
+        if (inQuotes())
+            throw new CsvParsingException(parsed(true));
+        return csv;
     }
 
     static boolean isEscapedChar(char character) {
@@ -121,31 +923,73 @@ final class CsvFormatter {
         };
     }
 
-    private String formatString(String value) {
+    /*
+     * Index of the first char of the value that requires it to be quoted, or -1 if it can be written as is. The
+     * chars before it hold no quote, so that only the rest of the value has quotes to double.
+     */
+    private int quotingStart(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c == quote || c == delimiter || isEscapedChar(c)) return i;
+        }
+        return -1;
+    }
+
+    /*
+     * Appends the formatted value to the builder. The value is scanned once, and appended as a whole unless it must be
+     * quoted, in which case it is appended in ranges between the quotes to double.
+     */
+    void appendCell(String value, StringBuilder destination) {
         Objects.requireNonNull(value);
-        var needQuotes = false;
-        var formatted = new StringBuilder();
-        for (char c : value.toCharArray()) {
-            if (c == quote) {
-                needQuotes = true;
-                formatted.append(quote).append(quote);
-                continue;
-            } else if (c == delimiter || isEscapedChar(c)) {
-                needQuotes = true;
+        var from = quotingStart(value);
+        if (from < 0) {
+            destination.append(value);
+            return;
+        }
+        destination.append(quote);
+        var start = 0;
+        for (int i = from; i < value.length(); i++) {
+            if (value.charAt(i) == quote) {
+                destination.append(value, start, i + 1).append(quote);
+                start = i + 1;
             }
-            formatted.append(c);
         }
-        if(needQuotes) return quote + formatted.toString() + quote;
-        return formatted.toString();
+        destination.append(value, start, value.length()).append(quote);
     }
 
-    String toCsvString(Iterable<String> values) {
-        var csvString = new StringBuilder();
-        var joiner = "";
+    // Same as appendCell, writing the ranges of the value without any substring
+    void writeCell(String value, Writer destination) throws IOException {
+        Objects.requireNonNull(value);
+        var from = quotingStart(value);
+        if (from < 0) {
+            destination.write(value);
+            return;
+        }
+        destination.write(quote);
+        var start = 0;
+        for (int i = from; i < value.length(); i++) {
+            if (value.charAt(i) == quote) {
+                destination.write(value, start, i + 1 - start);
+                destination.write(quote);
+                start = i + 1;
+            }
+        }
+        destination.write(value, start, value.length() - start);
+        destination.write(quote);
+    }
+
+    void appendRow(Iterable<String> values, StringBuilder destination) {
+        var first = true;
         for (var value : values) {
-            csvString.append(joiner).append(formatString(value));
-            joiner = String.valueOf(delimiter);
+            if (!first) destination.append(delimiter);
+            appendCell(value, destination);
+            first = false;
         }
+    }
+
+    String toCsvString(Iterable<String> values) {
+        var csvString = new StringBuilder();
+        appendRow(values, csvString);
         return csvString.toString();
     }
 
@@ -0,0 +1,143 @@
+package io.github.sekelenao.skcsv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/*
+ * Reads an input stream ahead on a separate thread, so that producing its bytes, such as decompressing them, overlaps
+ * with consuming them.
+ *
+ * The reading thread fills a bounded set of chunks, handed to the consumer through a queue and given back once
+ * consumed, so that at most CHUNKS chunks are in memory whatever the speed of the consumer. An error of the source,
+ * checked or not, is handed out in place of a chunk and thrown by the consumer, so that it never waits for a chunk the
+ * reading thread will not fill. The error is thrown again by every later read, so that a truncated source is never
+ * taken for a shorter one.
+ */
+final class PrefetchInputStream extends InputStream {
+
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private static final int CHUNKS = 4;
+
+    // A chunk of bytes read from the source, or the end of the source (negative length), or an error
+    private record Chunk(byte[] bytes, int length, Throwable error) {}
+
+    private static final Chunk END = new Chunk(null, -1, null);
+
+    private final InputStream source;
+
+    private final BlockingQueue<Chunk> filled = new ArrayBlockingQueue<>(CHUNKS + 1);
+
+    private final BlockingQueue<byte[]> free = new ArrayBlockingQueue<>(CHUNKS);
+
+    private final Thread thread;
+
+    private Chunk current;
+
+    private int position;
+
+    private boolean closed;
+
+    private PrefetchInputStream(InputStream source) {
+        this.source = source;
+        for (int i = 0; i < CHUNKS; i++) {
+            free.add(new byte[CHUNK_SIZE]);
+        }
+        this.thread = new Thread(this::prefetch, "SkCsv-prefetch");
+        thread.setDaemon(true);
+    }
+
+    static InputStream of(InputStream source) {
+        var stream = new PrefetchInputStream(Objects.requireNonNull(source));
+        stream.thread.start();
+        return stream;
+    }
+
+    private void prefetch() {
+        try {
+            while (true) {
+                var bytes = free.take();
+                Chunk chunk;
+                try {
+                    var length = source.readNBytes(bytes, 0, bytes.length);
+                    chunk = length == 0 ? END : new Chunk(bytes, length, null);
+                } catch (IOException | RuntimeException | Error e) {
+                    chunk = new Chunk(null, 0, e);
+                }
+                filled.put(chunk);
+                if (chunk.bytes() == null) return;
+            }
+        } catch (InterruptedException e) {
+            // closed by the consumer
+        }
+    }
+
+    // Throws the error of the source once it has been handed out, on every read as a broken InflaterInputStream does
+    private void checkError() throws IOException {
+        if (closed) throw new IOException("Stream closed");
+        if (current == null || current.error() == null) return;
+        var error = current.error();
+        if (error instanceof IOException ioException) throw ioException;
+        if (error instanceof RuntimeException runtimeException) throw runtimeException;
+        throw (Error) error;
+    }
+
+    // Returns false at the end of the source
+    private boolean fill() throws IOException {
+        checkError();
+        if (current != null && position < current.length()) return true;
+        if (current == END) return false;
+        if (current != null) free.add(current.bytes());
+        try {
+            current = filled.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        position = 0;
+        checkError();
+        return current != END;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) return -1;
+        return current.bytes()[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] destination, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, destination.length);
+        if (length == 0) return 0;
+        if (!fill()) return -1;
+        var read = Math.min(length, current.length() - position);
+        System.arraycopy(current.bytes(), position, destination, offset, read);
+        position += read;
+        return read;
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkError();
+        return current == null || current == END ? 0 : current.length() - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        thread.interrupt();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            source.close();
+        }
+    }
+
+}
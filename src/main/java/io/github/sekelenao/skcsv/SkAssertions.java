@@ -16,6 +16,10 @@ final class SkAssertions {
         if (integer < 0) throw new IllegalArgumentException("Must be positive.");
     }
 
+    static void positive(long integer) {
+        if (integer < 0) throw new IllegalArgumentException("Must be positive.");
+    }
+
     static void validChar(int character) {
         switch (character) {
             case '\n' -> throw new InvalidCsvValueException("\\n");
@@ -1,11 +1,15 @@
 package io.github.sekelenao.skcsv;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -511,8 +515,25 @@ public class SkCsv implements Iterable<SkCsvRow> {
      */
     public static SkCsv from(Path path, SkCsvConfig config, Charset charset) throws IOException {
         SkAssertions.requireNonNulls(path, config, charset);
-        var formatter = new CsvFormatter(config);
-        return formatter.split(Files.readAllLines(path, charset));
+        return collect(SkCsvReader.open(path, config, charset));
+    }
+
+    /**
+     * Reads the rows from the specified compressed file using the given configuration and charset, and returns a SkCsv
+     * instance. The file is decompressed as it is parsed, see
+     * {@link SkCsvReader#open(Path, SkCsvConfig, Charset, SkCsvCompression)}.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset of the decompressed text
+     * @param compression the compression of the file
+     * @return a SkCsv instance containing the rows read from the file
+     * @throws IOException if an I/O error occurs while reading the file, or if it is not compressed as specified
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsv from(Path path, SkCsvConfig config, Charset charset, SkCsvCompression compression) throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset, compression);
+        return collect(SkCsvReader.open(path, config, charset, compression));
     }
 
     /**
@@ -555,6 +576,217 @@ public class SkCsv implements Iterable<SkCsvRow> {
         return from(Objects.requireNonNull(path), SkCsvConfig.SEMICOLON);
     }
 
+    /**
+     * Reads the rows from the specified file by mapping it in memory, using the given configuration and charset, and
+     * returns a SkCsv instance.
+     *
+     * <p>The bytes of the file are parsed in place, without decoding the whole text first. This mode is best suited to
+     * large local files in {@code UTF-8}, {@code US-ASCII} or {@code ISO-8859-1}, see
+     * {@link SkCsvReader#openMapped(Path, SkCsvConfig, Charset)} for the details.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset to use for decoding the cells
+     * @return a SkCsv instance containing the rows read from the file
+     * @throws IOException if an I/O error occurs while reading the file
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsv fromMapped(Path path, SkCsvConfig config, Charset charset) throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset);
+        return collect(SkCsvReader.openMapped(path, config, charset));
+    }
+
+    /**
+     * Reads the rows from the specified file in parallel on the given pool, using the given configuration and charset,
+     * and returns a SkCsv instance.
+     *
+     * <p>The file is cut into byte ranges that are mapped in memory and parsed concurrently, each range starting at the
+     * beginning of a record even when quoted cells contain line breaks. The rows are then put back together in their
+     * original order. Like {@link SkCsv#fromMapped(Path, SkCsvConfig, Charset) fromMapped}, this mode is supported for
+     * {@code UTF-8} or {@code US-ASCII} files with an ASCII delimiter and quote, and for {@code ISO-8859-1} files.
+     * Otherwise, the file is read sequentially.
+     *
+     * <p>The ranges are found by counting quotes, which relies on the file matching the CSV format: a malformed file is
+     * still reported by a {@link io.github.sekelenao.skcsv.exception.CsvParsingException CsvParsingException}, but not
+     * necessarily at the same place as with a sequential read.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset to use for decoding the cells
+     * @param pool the pool on which the file is parsed
+     * @return a SkCsv instance containing the rows read from the file
+     * @throws IOException if an I/O error occurs while reading the file
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsv fromParallel(Path path, SkCsvConfig config, Charset charset, ForkJoinPool pool) throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset, pool);
+        if (!CsvFormatter.parsesBytes(config, charset)) return from(path, config, charset);
+        return CsvChunks.split(path, config, charset, pool);
+    }
+
+    /**
+     * Reads the rows from the specified file in parallel on the common pool, using the given configuration and
+     * charset, and returns a SkCsv instance.
+     * See {@link SkCsv#fromParallel(Path, SkCsvConfig, Charset, ForkJoinPool)} for the details.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset to use for decoding the cells
+     * @return a SkCsv instance containing the rows read from the file
+     * @throws IOException if an I/O error occurs while reading the file
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsv fromParallel(Path path, SkCsvConfig config, Charset charset) throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset);
+        return fromParallel(path, config, charset, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Drains the specified reader into a new SkCsv instance, closing it afterward.
+     *
+     * @param reader the reader to drain
+     * @return a SkCsv instance containing the rows read
+     * @throws IOException if an I/O error occurs while reading
+     */
+    private static SkCsv collect(SkCsvReader reader) throws IOException {
+        try (reader) {
+            var csv = new SkCsv();
+            reader.forEachRemaining(csv::add);
+            return csv;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Reads the rows from the specified character stream using the given configuration, and returns a SkCsv instance.
+     * The character stream is read in chunks and closed once parsed, there is no need to wrap it in a buffered reader.
+     *
+     * @param reader the character stream to parse
+     * @param config the configuration to use for parsing
+     * @return a SkCsv instance containing the rows read from the character stream
+     * @throws IOException if an I/O error occurs while reading the character stream
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsv from(Reader reader, SkCsvConfig config) throws IOException {
+        SkAssertions.requireNonNulls(reader, config);
+        return collect(SkCsvReader.open(reader, config));
+    }
+
+    /**
+     * Reads the rows from the specified byte stream using the given configuration and charset, and returns a SkCsv
+     * instance. The byte stream is closed once parsed.
+     *
+     * @param stream the byte stream to parse
+     * @param config the configuration to use for parsing
+     * @param charset the charset to use for decoding the byte stream
+     * @return a SkCsv instance containing the rows read from the byte stream
+     * @throws IOException if an I/O error occurs while reading the byte stream
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsv from(InputStream stream, SkCsvConfig config, Charset charset) throws IOException {
+        SkAssertions.requireNonNulls(stream, config, charset);
+        return collect(SkCsvReader.open(stream, config, charset));
+    }
+
+    /**
+     * Parses the specified text using the given configuration, and returns a SkCsv instance.
+     * Unlike {@link SkCsv#from(Iterable, SkCsvConfig)}, the text does not need to be split into lines first.
+     *
+     * @param text the text to parse
+     * @param config the configuration to use for parsing
+     * @return a SkCsv instance containing the parsed rows
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsv from(CharSequence text, SkCsvConfig config) {
+        SkAssertions.requireNonNulls(text, config);
+        var csv = new SkCsv();
+        SkCsvReader.open(text, config).forEachRemaining(csv::add);
+        return csv;
+    }
+
+    /**
+     * Returns a lazy {@code Stream} over the rows of the specified file, using the given configuration and charset.
+     *
+     * <p>Unlike {@link SkCsv#from(Path, SkCsvConfig, Charset)}, the file is parsed one record at a time while the
+     * stream is consumed, so the memory used does not depend on the size of the file. The returned stream holds an
+     * open file and must be closed, preferably with a try-with-resources statement.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset to use for reading the file
+     * @return a lazy {@code Stream} over the rows of the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws NullPointerException if any of the specified arguments is null
+     * @see SkCsvReader
+     */
+    public static Stream<SkCsvRow> streamFrom(Path path, SkCsvConfig config, Charset charset) throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset);
+        return SkCsvReader.open(path, config, charset).stream();
+    }
+
+    /**
+     * Returns a lazy {@code Stream} over the rows of the specified compressed file, using the given configuration and
+     * charset. The file is decompressed as the stream is consumed. The returned stream holds an open file and must be
+     * closed.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset of the decompressed text
+     * @param compression the compression of the file
+     * @return a lazy {@code Stream} over the rows of the file
+     * @throws IOException if an I/O error occurs while opening the file, or if it is not compressed as specified
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static Stream<SkCsvRow> streamFrom(Path path, SkCsvConfig config, Charset charset, SkCsvCompression compression)
+            throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset, compression);
+        return SkCsvReader.open(path, config, charset, compression).stream();
+    }
+
+    /**
+     * Returns a lazy {@code Stream} over the rows of the specified file, using the given configuration and the default
+     * charset. The returned stream holds an open file and must be closed.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @return a lazy {@code Stream} over the rows of the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static Stream<SkCsvRow> streamFrom(Path path, SkCsvConfig config) throws IOException {
+        SkAssertions.requireNonNulls(path, config);
+        return streamFrom(path, config, Charset.defaultCharset());
+    }
+
+    /**
+     * Returns a lazy {@code Stream} over the rows of the specified file, using the default configuration and the given
+     * charset. The returned stream holds an open file and must be closed.
+     *
+     * @param path the path to the file
+     * @param charset the charset to use for reading the file
+     * @return a lazy {@code Stream} over the rows of the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static Stream<SkCsvRow> streamFrom(Path path, Charset charset) throws IOException {
+        SkAssertions.requireNonNulls(path, charset);
+        return streamFrom(path, SkCsvConfig.SEMICOLON, charset);
+    }
+
+    /**
+     * Returns a lazy {@code Stream} over the rows of the specified file, using the default configuration and the
+     * default charset. The returned stream holds an open file and must be closed.
+     *
+     * @param path the path to the file
+     * @return a lazy {@code Stream} over the rows of the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws NullPointerException if the specified path is null
+     */
+    public static Stream<SkCsvRow> streamFrom(Path path) throws IOException {
+        return streamFrom(Objects.requireNonNull(path), SkCsvConfig.SEMICOLON);
+    }
+
     /**
      * Parses the text provided by the given iterable using the specified configuration, and returns a SkCsv instance.
      *
@@ -591,12 +823,107 @@ public class SkCsv implements Iterable<SkCsvRow> {
      */
     public void export(Path path, Charset charset, OpenOption... openOptions) throws IOException {
         SkAssertions.requireNonNulls(path, charset, openOptions);
-        var formatter = new CsvFormatter(config);
-        try (var writer = Files.newBufferedWriter(path, charset, openOptions)) {
-            for (var row : internalRows) {
-                writer.write(formatter.toCsvString(row));
-                writer.newLine();
+        try (var writer = SkCsvWriter.open(path, config, charset, openOptions)) {
+            write(writer);
+        }
+    }
+
+    /**
+     * Exports the rows of this SkCsv instance to the specified file, compressed as it is written, using the given
+     * charset and open options. No temporary file is written.
+     *
+     * @param path the path to the file
+     * @param charset the charset to use for writing the text
+     * @param compression the compression of the file
+     * @param openOptions the options specifying how the file is opened
+     * @throws IOException if an I/O error occurs while writing the file
+     * @throws NullPointerException if any of the specified arguments is null
+     * @see SkCsvCompression#of(Path)
+     */
+    public void export(Path path, Charset charset, SkCsvCompression compression, OpenOption... openOptions) throws IOException {
+        SkAssertions.requireNonNulls(path, charset, compression, openOptions);
+        try (var writer = SkCsvWriter.open(path, config, charset, compression, openOptions)) {
+            write(writer);
+        }
+    }
+
+    /**
+     * Exports the rows of this SkCsv instance to the specified file using the given charset and open options, the file
+     * being written on a separate thread.
+     *
+     * <p>The rows are formatted on the calling thread while a dedicated thread writes them to the file, as by
+     * {@link SkCsvWriter#openAsync(Path, SkCsvConfig, Charset, OpenOption...)}. This method returns once every row has
+     * been formatted, the returned future being completed once the file has been written and closed, or exceptionally
+     * by the {@link IOException} that prevented it.
+     *
+     * @param path the path to the file
+     * @param charset the charset to use for writing the file
+     * @param openOptions the options specifying how the file is opened
+     * @return a future completed once the file has been written
+     * @throws IOException if an I/O error occurs while opening the file, or has already occurred while writing it
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public CompletableFuture<Void> exportAsync(Path path, Charset charset, OpenOption... openOptions) throws IOException {
+        SkAssertions.requireNonNulls(path, charset, openOptions);
+        var writer = SkCsvWriter.openAsync(path, config, charset, openOptions);
+        try {
+            write(writer);
+        } catch (IOException | RuntimeException | Error e) {
+            try {
+                writer.close();
+            } catch (IOException | RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
             }
+            throw e;
+        }
+        return writer.closeAsync();
+    }
+
+    /**
+     * Exports the rows of this SkCsv instance to the specified file using the given charset and open options, formatting
+     * them in parallel on the given pool.
+     *
+     * <p>The rows are cut into blocks of contiguous rows, formatted concurrently on the pool, while the calling thread
+     * writes the formatted blocks to the file in their original order: the file is the same as the one written by
+     * {@link SkCsv#export(Path, Charset, OpenOption...) export}. Only a bounded number of blocks is formatted ahead of
+     * the writing, so that the memory needed does not depend on the number of rows.
+     *
+     * <p>This SkCsv instance and its rows must not be modified while being exported.
+     *
+     * @param path the path to the file
+     * @param charset the charset to use for writing the file
+     * @param pool the pool on which the rows are formatted
+     * @param openOptions the options specifying how the file is opened
+     * @throws IOException if an I/O error occurs while writing the file
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public void exportParallel(Path path, Charset charset, ForkJoinPool pool, OpenOption... openOptions) throws IOException {
+        SkAssertions.requireNonNulls(path, charset, pool, openOptions);
+        var rows = Arrays.asList(internalRows.toArray(SkCsvRow[]::new));
+        try (var writer = SkCsvWriter.open(path, config, charset, openOptions)) {
+            writer.writeRows(rows, pool);
+        }
+    }
+
+    /**
+     * Exports the rows of this SkCsv instance to the specified file using the given charset and open options, formatting
+     * them in parallel on the common pool.
+     * See {@link SkCsv#exportParallel(Path, Charset, ForkJoinPool, OpenOption...)} for the details.
+     *
+     * @param path the path to the file
+     * @param charset the charset to use for writing the file
+     * @param openOptions the options specifying how the file is opened
+     * @throws IOException if an I/O error occurs while writing the file
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public void exportParallel(Path path, Charset charset, OpenOption... openOptions) throws IOException {
+        SkAssertions.requireNonNulls(path, charset, openOptions);
+        exportParallel(path, charset, ForkJoinPool.commonPool(), openOptions);
+    }
+
+    private void write(SkCsvWriter writer) throws IOException {
+        for (var row : internalRows) {
+            writer.writeRow(row);
         }
     }
 
@@ -661,7 +988,8 @@ public class SkCsv implements Iterable<SkCsvRow> {
         var formatter = new CsvFormatter(config);
         var builder = new StringBuilder();
         for (var row : internalRows) {
-            builder.append(formatter.toCsvString(row)).append("\n");
+            formatter.appendRow(row, builder);
+            builder.append('\n');
         }
         return builder.toString();
     }
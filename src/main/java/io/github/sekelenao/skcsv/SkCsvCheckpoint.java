@@ -0,0 +1,70 @@
+package io.github.sekelenao.skcsv;
+
+import java.io.Serializable;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Position of a parser at a record boundary, from which parsing can be resumed.
+ *
+ * <p>A checkpoint is given by {@link SkCsvReader#checkpoint()} or {@link SkCsvFollower#checkpoint()}, and can be
+ * handed back to {@link SkCsvReader#open(Path, SkCsvConfig, Charset, SkCsvCheckpoint)} or
+ * {@link SkCsvFollower#open(Path, SkCsvConfig, Charset, SkCsvCheckpoint)} to parse the rest of the text, for instance
+ * after a failure in the middle of a large import. Being serializable, it can be persisted along with the work
+ * already done.
+ *
+ * <p>Quotes are always closed at a record boundary: the only state to keep is whether the previous record ended with
+ * a {@code '\r'}, in which case a {@code '\n'} at the offset still belongs to its terminator.
+ *
+ * <p>When the first record of the text has been read as a header, because of {@link SkCsvReader#withHeader()} or
+ * because a column is given by its name, the checkpoints following it also hold its cells. A reader resumed from such
+ * a checkpoint uses them as its header, instead of reading the first record following the checkpoint.
+ *
+ * @param offset the offset in the text following the record, in bytes when the text is parsed as bytes, in chars
+ *               when it is decoded first
+ * @param record the number of records preceding the checkpoint, header and filtered records included
+ * @param afterCarriageReturn whether the record preceding the checkpoint ended with a {@code '\r'}
+ * @param header the cells of the header of the text, or {@code null} if no header has been read
+ */
+public record SkCsvCheckpoint(long offset, long record, boolean afterCarriageReturn, List<String> header)
+        implements Serializable {
+
+    /**
+     * Checkpoint at the beginning of a text.
+     */
+    public static final SkCsvCheckpoint START = new SkCsvCheckpoint(0, 0, false);
+
+    /**
+     * Constructs a new checkpoint. The header is copied, so subsequent changes to the list do not affect the checkpoint.
+     *
+     * @param offset the offset in the text following the record
+     * @param record the number of records preceding the checkpoint
+     * @param afterCarriageReturn whether the record preceding the checkpoint ended with a {@code '\r'}
+     * @param header the cells of the header of the text, or {@code null} if no header has been read
+     * @throws IllegalArgumentException if the offset or the number of records is negative, or if a header is given
+     *                                  while no record precedes the checkpoint
+     * @throws NullPointerException if any of the cells of the header is null
+     */
+    public SkCsvCheckpoint {
+        SkAssertions.positive(offset);
+        SkAssertions.positive(record);
+        if (header != null) {
+            if (record == 0) throw new IllegalArgumentException("No header precedes the checkpoint");
+            header = List.copyOf(header);
+        }
+    }
+
+    /**
+     * Constructs a new checkpoint holding no header.
+     *
+     * @param offset the offset in the text following the record
+     * @param record the number of records preceding the checkpoint
+     * @param afterCarriageReturn whether the record preceding the checkpoint ended with a {@code '\r'}
+     * @throws IllegalArgumentException if the offset or the number of records is negative
+     */
+    public SkCsvCheckpoint(long offset, long record, boolean afterCarriageReturn) {
+        this(offset, record, afterCarriageReturn, null);
+    }
+
+}
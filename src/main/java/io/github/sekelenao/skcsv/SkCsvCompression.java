@@ -0,0 +1,137 @@
+package io.github.sekelenao.skcsv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compression of CSV files, applied by the library while reading and writing them.
+ *
+ * <p>Compressed files are read and written as streams, without any temporary file. The inflaters and deflaters work
+ * on large buffers, and when reading a file, decompression runs on a separate thread ahead of parsing, so that both
+ * overlap.
+ */
+public enum SkCsvCompression {
+
+    /**
+     * No compression.
+     */
+    NONE {
+        @Override
+        public InputStream decompress(InputStream stream) {
+            return Objects.requireNonNull(stream);
+        }
+
+        @Override
+        public OutputStream compress(OutputStream stream) {
+            return Objects.requireNonNull(stream);
+        }
+    },
+
+    /**
+     * The GZIP file format, usually with the {@code .gz} extension.
+     */
+    GZIP {
+        @Override
+        public InputStream decompress(InputStream stream) throws IOException {
+            return new GZIPInputStream(Objects.requireNonNull(stream), BUFFER_SIZE);
+        }
+
+        @Override
+        public OutputStream compress(OutputStream stream) throws IOException {
+            return new GZIPOutputStream(Objects.requireNonNull(stream), BUFFER_SIZE);
+        }
+    },
+
+    /**
+     * The ZLIB format, a deflate stream with a small header, usually with the {@code .zz} or {@code .deflate}
+     * extension.
+     */
+    DEFLATE {
+        @Override
+        public InputStream decompress(InputStream stream) {
+            Objects.requireNonNull(stream);
+            var inflater = new Inflater();
+            return new InflaterInputStream(stream, inflater, BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        inflater.end();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public OutputStream compress(OutputStream stream) {
+            Objects.requireNonNull(stream);
+            var deflater = new Deflater();
+            return new DeflaterOutputStream(stream, deflater, BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        deflater.end();
+                    }
+                }
+            };
+        }
+    };
+
+    /**
+     * Size of the buffers of the inflaters and deflaters.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Returns a stream of the decompressed bytes of the specified stream, closing it when closed.
+     *
+     * @param stream the compressed stream
+     * @return a stream of the decompressed bytes
+     * @throws IOException if an I/O error occurs while reading the header of the stream
+     * @throws NullPointerException if the specified stream is null
+     */
+    public abstract InputStream decompress(InputStream stream) throws IOException;
+
+    /**
+     * Returns a stream compressing the bytes written to it into the specified stream, which is closed when the
+     * returned stream is closed. The compressed data is only complete once the returned stream has been closed.
+     *
+     * @param stream the stream receiving the compressed bytes
+     * @return a stream compressing the bytes written to it
+     * @throws IOException if an I/O error occurs while writing the header of the stream
+     * @throws NullPointerException if the specified stream is null
+     */
+    public abstract OutputStream compress(OutputStream stream) throws IOException;
+
+    /**
+     * Returns the compression matching the extension of the specified file: {@link SkCsvCompression#GZIP} for
+     * {@code .gz}, {@link SkCsvCompression#DEFLATE} for {@code .zz} and {@code .deflate}, and
+     * {@link SkCsvCompression#NONE} otherwise.
+     *
+     * @param path the path to the file
+     * @return the compression matching the extension of the file
+     * @throws NullPointerException if the specified path is null
+     */
+    public static SkCsvCompression of(Path path) {
+        var fileName = Objects.requireNonNull(path).getFileName();
+        if (fileName == null) return NONE;
+        var name = fileName.toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".gz")) return GZIP;
+        if (name.endsWith(".zz") || name.endsWith(".deflate")) return DEFLATE;
+        return NONE;
+    }
+
+}
@@ -0,0 +1,171 @@
+package io.github.sekelenao.skcsv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Follower of a CSV file that is continuously appended, in the manner of {@code tail -f}.
+ *
+ * <p>Each call to {@link SkCsvFollower#poll(Consumer)} parses the bytes appended to the file since the previous call,
+ * and gives the records they complete to a sink. The state of the parser is kept between calls, so that a record
+ * being written when the file is polled, possibly inside a quoted cell, is held back until its terminator has been
+ * appended. A record is therefore only given once it ends with a line break, the last record of the file included.
+ *
+ * <p>The file is read as bytes, which is supported for the {@code UTF-8} and {@code US-ASCII} charsets when the
+ * delimiter and the quote are ASCII chars, and for the {@code ISO-8859-1} charset.
+ *
+ * <p>Instances of this class hold an open file and must be closed after use.
+ */
+public final class SkCsvFollower implements Closeable {
+
+    /**
+     * Size of the buffer in which the appended bytes are read.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+
+    private final CsvFormatter formatter;
+
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Offset in the file of the next byte to read.
+     */
+    private long position;
+
+    /**
+     * Offset in the file following the last complete record.
+     */
+    private long offset;
+
+    /**
+     * Whether the last complete record ended with a {@code '\r'}.
+     */
+    private boolean afterCarriageReturn;
+
+    private SkCsvFollower(FileChannel channel, CsvFormatter formatter, SkCsvCheckpoint checkpoint) {
+        this.channel = channel;
+        this.formatter = formatter;
+        resume(checkpoint);
+    }
+
+    private void resume(SkCsvCheckpoint checkpoint) {
+        formatter.restart(checkpoint.record(), checkpoint.afterCarriageReturn());
+        position = checkpoint.offset();
+        offset = checkpoint.offset();
+        afterCarriageReturn = checkpoint.afterCarriageReturn();
+    }
+
+    /**
+     * Opens a follower on the specified file, from its beginning, using the given configuration and charset.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset of the file
+     * @return a follower of the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws IllegalArgumentException if the file cannot be read as bytes with the given configuration and charset
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvFollower open(Path path, SkCsvConfig config, Charset charset) throws IOException {
+        return open(path, config, charset, SkCsvCheckpoint.START);
+    }
+
+    /**
+     * Opens a follower on the specified file, from the given checkpoint, using the given configuration and charset.
+     * The first record given to a sink is the one following the checkpoint.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset of the file
+     * @param checkpoint the checkpoint from which to follow the file, given by {@link SkCsvFollower#checkpoint()}
+     * @return a follower of the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws IllegalArgumentException if the file cannot be read as bytes with the given configuration and charset
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvFollower open(Path path, SkCsvConfig config, Charset charset, SkCsvCheckpoint checkpoint)
+            throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset, checkpoint);
+        var formatter = new CsvFormatter(config, charset);
+        return new SkCsvFollower(FileChannel.open(path, StandardOpenOption.READ), formatter, checkpoint);
+    }
+
+    /**
+     * Returns the offset in the file following the last complete record given to a sink.
+     *
+     * @return the offset following the last complete record
+     */
+    public long offset() {
+        return offset;
+    }
+
+    /**
+     * Returns a checkpoint following the last complete record given to a sink, from which the file can be followed
+     * again with {@link SkCsvFollower#open(Path, SkCsvConfig, Charset, SkCsvCheckpoint)}.
+     *
+     * @return a checkpoint following the last complete record
+     */
+    public SkCsvCheckpoint checkpoint() {
+        return new SkCsvCheckpoint(offset, formatter.records(), afterCarriageReturn);
+    }
+
+    /**
+     * Parses the bytes appended to the file since the previous call, giving each complete record to the sink.
+     *
+     * <p>If the file has been truncated below the offset of the last complete record, as when it is rotated, it is
+     * followed again from its beginning. If only a record being written has been truncated, it is parsed again from
+     * its start.
+     *
+     * @param sink the consumer of the complete records
+     * @return the number of records given to the sink
+     * @throws IOException if an I/O error occurs while reading
+     * @throws NullPointerException if the specified sink is null
+     * @throws io.github.sekelenao.skcsv.exception.CsvParsingException if the text does not match the CSV format
+     */
+    public int poll(Consumer<? super SkCsvRow> sink) throws IOException {
+        Objects.requireNonNull(sink);
+        var size = channel.size();
+        if (size < offset) {
+            resume(SkCsvCheckpoint.START);
+        } else if (size < position) {
+            resume(checkpoint());
+        }
+        var count = 0;
+        int read;
+        while ((read = channel.read(bytes.clear(), position)) > 0) {
+            var index = 0;
+            while (index < read) {
+                var end = formatter.parse(bytes, index, read);
+                if (end < 0) break;
+                offset = position + end;
+                afterCarriageReturn = formatter.endedWithCarriageReturn();
+                sink.accept(formatter.takeRow());
+                count++;
+                index = end;
+            }
+            position += read;
+        }
+        return count;
+    }
+
+    /**
+     * Closes the followed file.
+     *
+     * @throws IOException if an I/O error occurs while closing
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
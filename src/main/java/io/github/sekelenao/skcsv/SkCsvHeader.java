@@ -0,0 +1,201 @@
+package io.github.sekelenao.skcsv;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable header of a CSV text, mapping the name of each column to its index.
+ *
+ * <p>The names are resolved once, when the header is read, into {@link Column} handles holding the index of their
+ * column. Accessing a cell through a handle, with {@link SkCsvRow#get(Column)} or {@link SkCsvRowView#get(Column)},
+ * is then a direct array access, as fast as accessing it by index: no name is hashed for each row. A header can be
+ * shared by any number of rows and threads.
+ *
+ * <p>When several columns have the same name, the name refers to the first of them.
+ */
+public final class SkCsvHeader {
+
+    /**
+     * Handle of a column of a header, resolving its name to its index.
+     *
+     * @param name the name of the column
+     * @param index the index of the column
+     */
+    public record Column(String name, int index) {
+
+        /**
+         * Constructs a new column handle.
+         *
+         * @param name the name of the column
+         * @param index the index of the column
+         * @throws IllegalArgumentException if the index is negative
+         * @throws NullPointerException if the name is null
+         */
+        public Column {
+            Objects.requireNonNull(name);
+            SkAssertions.positive(index);
+        }
+
+    }
+
+    /**
+     * The column of each index.
+     */
+    private final Column[] columns;
+
+    /**
+     * The first column of each name.
+     */
+    private final Map<String, Column> byName;
+
+    private SkCsvHeader(Column[] columns) {
+        this.columns = columns;
+        var byName = new HashMap<String, Column>();
+        for (var column : columns) {
+            byName.putIfAbsent(column.name(), column);
+        }
+        this.byName = Map.copyOf(byName);
+    }
+
+    /**
+     * Creates a header with the specified column names, in order.
+     *
+     * @param names the names of the columns
+     * @return a new header
+     * @throws NullPointerException if the specified array or any of its elements is null
+     */
+    public static SkCsvHeader of(String... names) {
+        SkAssertions.requireNonNulls((Object[]) Objects.requireNonNull(names));
+        var columns = new Column[names.length];
+        for (int i = 0; i < names.length; i++) {
+            columns[i] = new Column(names[i], i);
+        }
+        return new SkCsvHeader(columns);
+    }
+
+    /**
+     * Creates a header from the cells of the specified row, which is not kept.
+     *
+     * @param row the row holding the column names
+     * @return a new header
+     * @throws NullPointerException if the specified row is null
+     */
+    public static SkCsvHeader of(SkCsvRow row) {
+        Objects.requireNonNull(row);
+        var names = new String[row.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = row.get(i);
+        }
+        return of(names);
+    }
+
+    /**
+     * Returns the number of columns of this header.
+     *
+     * @return the number of columns
+     */
+    public int size() {
+        return columns.length;
+    }
+
+    /**
+     * Returns the column having the specified name.
+     *
+     * @param name the name of the column
+     * @return the column having the name
+     * @throws IllegalArgumentException if no column has the name
+     * @throws NullPointerException if the specified name is null
+     */
+    public Column column(String name) {
+        var column = byName.get(Objects.requireNonNull(name));
+        if (column == null) throw new IllegalArgumentException("Unknown column: " + name);
+        return column;
+    }
+
+    /**
+     * Returns the column at the specified index.
+     *
+     * @param index the index of the column
+     * @return the column at the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Column column(int index) {
+        Objects.checkIndex(index, columns.length);
+        return columns[index];
+    }
+
+    /**
+     * Returns the index of the column having the specified name, or -1 if no column has it.
+     *
+     * @param name the name of the column
+     * @return the index of the column, or -1
+     * @throws NullPointerException if the specified name is null
+     */
+    public int indexOf(String name) {
+        var column = byName.get(Objects.requireNonNull(name));
+        return column == null ? -1 : column.index();
+    }
+
+    /**
+     * Returns {@code true} if a column has the specified name.
+     *
+     * @param name the name of the column
+     * @return {@code true} if a column has the name, {@code false} otherwise
+     * @throws NullPointerException if the specified name is null
+     */
+    public boolean contains(String name) {
+        return byName.containsKey(Objects.requireNonNull(name));
+    }
+
+    /**
+     * Returns the columns of this header, in order.
+     *
+     * @return an unmodifiable list of the columns
+     */
+    public List<Column> columns() {
+        return List.of(columns);
+    }
+
+    /**
+     * Returns a new row holding the names of the columns, for instance to write the header back.
+     *
+     * @return a new row holding the names of the columns
+     */
+    public SkCsvRow toRow() {
+        var row = new SkCsvRow();
+        for (var column : columns) {
+            row.add(column.name());
+        }
+        return row;
+    }
+
+    /**
+     * Indicates whether some other object is a header with the same column names, in the same order.
+     *
+     * @param other the reference object with which to compare
+     * @return {@code true} if the object is an equal header, {@code false} otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SkCsvHeader header && Arrays.equals(header.columns, columns);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(columns);
+    }
+
+    /**
+     * Returns the string representation of this header, as the row of its names.
+     *
+     * @return the string representation of this header
+     */
+    @Override
+    public String toString() {
+        return toRow().toString();
+    }
+
+}
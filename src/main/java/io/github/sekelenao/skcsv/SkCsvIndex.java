@@ -0,0 +1,271 @@
+package io.github.sekelenao.skcsv;
+
+import io.github.sekelenao.skcsv.exception.InvalidCsvValueException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sparse index of the records of a CSV file, giving random access to its rows without loading the file.
+ *
+ * <p>The index holds a {@link SkCsvCheckpoint} every {@code interval} records, found by parsing the whole file once,
+ * so that quoted line breaks are never mistaken for record terminators. Fetching a row then only parses the records
+ * between the closest preceding checkpoint and the row, whatever the size of the file. The index can be saved, for
+ * instance next to the file, and loaded again as long as the file is not modified.
+ *
+ * <p>Indexes are supported for the {@code UTF-8} and {@code US-ASCII} charsets when the delimiter and the quote are
+ * ASCII chars, and for the {@code ISO-8859-1} charset, the files being read as bytes.
+ *
+ * <p>Instances of this class are immutable.
+ */
+public final class SkCsvIndex {
+
+    /**
+     * Default number of records between two checkpoints.
+     */
+    public static final int DEFAULT_INTERVAL = 1024;
+
+    /**
+     * First bytes of a saved index, {@code "SkIx"}.
+     */
+    private static final int MAGIC = 0x536B4978;
+
+    private static final byte VERSION = 1;
+
+    private final SkCsvConfig config;
+
+    private final Charset charset;
+
+    /**
+     * The size of the file when it was indexed.
+     */
+    private final long fileSize;
+
+    /**
+     * The number of records in the file.
+     */
+    private final long records;
+
+    private final int interval;
+
+    /**
+     * The offset of each checkpoint, shifted left by one, its lowest bit telling whether the preceding record ended
+     * with a {@code '\r'}.
+     */
+    private final long[] entries;
+
+    private SkCsvIndex(SkCsvConfig config, Charset charset, long fileSize, long records, int interval, long[] entries) {
+        this.config = config;
+        this.charset = charset;
+        this.fileSize = fileSize;
+        this.records = records;
+        this.interval = interval;
+        this.entries = entries;
+    }
+
+    private static IOException notAnIndex(Path path) {
+        return new IOException("Not a SkCsv index: " + path);
+    }
+
+    private static long entry(long offset, boolean afterCarriageReturn) {
+        return offset << 1 | (afterCarriageReturn ? 1 : 0);
+    }
+
+    /**
+     * Builds the index of the specified file, with a checkpoint every {@code interval} records.
+     * The file is mapped in memory and parsed once, without building any row.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset of the file
+     * @param interval the number of records between two checkpoints
+     * @return the index of the file
+     * @throws IOException if an I/O error occurs while reading the file
+     * @throws IllegalArgumentException if the interval is not strictly positive, or if the file cannot be read as bytes
+     *                                  with the given configuration and charset
+     * @throws NullPointerException if any of the specified arguments is null
+     * @throws io.github.sekelenao.skcsv.exception.CsvParsingException if the file does not match the CSV format
+     */
+    public static SkCsvIndex build(Path path, SkCsvConfig config, Charset charset, int interval) throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset);
+        if (interval <= 0) throw new IllegalArgumentException("Interval must be strictly positive");
+        if (!CsvFormatter.parsesBytes(config, charset)) throw new IllegalArgumentException("Cannot index " + charset);
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ);
+             var source = new SkCsvReader.MappedSource(channel, config, charset, 0, channel.size())) {
+            var formatter = source.formatter();
+            formatter.project();
+            var entries = new long[16];
+            var count = 1;
+            while (source.parseRecord()) {
+                var record = formatter.records();
+                if (record % interval != 0) continue;
+                if (count == entries.length) entries = Arrays.copyOf(entries, count << 1);
+                entries[count++] = entry(source.offset(), formatter.endedWithCarriageReturn());
+            }
+            var size = channel.size();
+            return new SkCsvIndex(config, charset, size, formatter.records(), interval, Arrays.copyOf(entries, count));
+        }
+    }
+
+    /**
+     * Builds the index of the specified file, with a checkpoint every {@link SkCsvIndex#DEFAULT_INTERVAL} records.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset of the file
+     * @return the index of the file
+     * @throws IOException if an I/O error occurs while reading the file
+     * @throws IllegalArgumentException if the file cannot be read as bytes with the given configuration and charset
+     * @throws NullPointerException if any of the specified arguments is null
+     * @throws io.github.sekelenao.skcsv.exception.CsvParsingException if the file does not match the CSV format
+     */
+    public static SkCsvIndex build(Path path, SkCsvConfig config, Charset charset) throws IOException {
+        return build(path, config, charset, DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Returns the number of records in the indexed file.
+     *
+     * @return the number of records in the indexed file
+     */
+    public long size() {
+        return records;
+    }
+
+    /**
+     * Returns the closest checkpoint preceding the specified record, from which it can be read with
+     * {@link SkCsvReader#open(Path, SkCsvConfig, Charset, SkCsvCheckpoint)}.
+     *
+     * @param record the index of the record
+     * @return the closest checkpoint preceding the record
+     * @throws IndexOutOfBoundsException if the record is out of range
+     */
+    public SkCsvCheckpoint checkpoint(long record) {
+        Objects.checkIndex(record, records);
+        var entry = entries[(int) (record / interval)];
+        return new SkCsvCheckpoint(entry >>> 1, record - record % interval, (entry & 1) != 0);
+    }
+
+    private void requireIndexed(Path path) throws IOException {
+        if (Files.size(path) != fileSize) throw new IllegalStateException("The file has changed since it was indexed");
+    }
+
+    /**
+     * Returns the rows of the specified file from the given record, seeking to the closest preceding checkpoint and
+     * parsing only the records that separate it from the requested ones.
+     *
+     * @param path the path to the indexed file
+     * @param from the index of the first record
+     * @param count the maximum number of rows to return
+     * @return the rows of the file from the given record, fewer than requested at the end of the file
+     * @throws IOException if an I/O error occurs while reading the file
+     * @throws IllegalArgumentException if the count is negative
+     * @throws IllegalStateException if the size of the file has changed since it was indexed
+     * @throws IndexOutOfBoundsException if the first record is out of range
+     * @throws NullPointerException if the specified path is null
+     */
+    public List<SkCsvRow> rows(Path path, long from, int count) throws IOException {
+        Objects.requireNonNull(path);
+        SkAssertions.positive(count);
+        var checkpoint = checkpoint(from);
+        requireIndexed(path);
+        var rows = new ArrayList<SkCsvRow>();
+        try (var reader = SkCsvReader.openMapped(path, config, charset, checkpoint)) {
+            reader.skip(from - checkpoint.record()).limit(count).forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the row of the specified file at the given record.
+     *
+     * @param path the path to the indexed file
+     * @param record the index of the record
+     * @return the row at the given record
+     * @throws IOException if an I/O error occurs while reading the file
+     * @throws IllegalStateException if the size of the file has changed since it was indexed
+     * @throws IndexOutOfBoundsException if the record is out of range
+     * @throws NullPointerException if the specified path is null
+     */
+    public SkCsvRow row(Path path, long record) throws IOException {
+        return rows(path, record, 1).get(0);
+    }
+
+    /**
+     * Saves this index in the specified file, replacing it if it exists.
+     *
+     * @param path the path to the file in which to save the index
+     * @throws IOException if an I/O error occurs while writing
+     * @throws NullPointerException if the specified path is null
+     */
+    public void save(Path path) throws IOException {
+        Objects.requireNonNull(path);
+        try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            output.writeChar(config.delimiter());
+            output.writeChar(config.quote());
+            output.writeUTF(charset.name());
+            output.writeLong(fileSize);
+            output.writeLong(records);
+            output.writeInt(interval);
+            output.writeInt(entries.length);
+            for (var entry : entries) {
+                output.writeLong(entry);
+            }
+        }
+    }
+
+    /**
+     * Loads an index saved with {@link SkCsvIndex#save(Path)}.
+     *
+     * @param path the path to the file holding the index
+     * @return the loaded index
+     * @throws IOException if an I/O error occurs while reading, or if the file does not hold an index
+     * @throws NullPointerException if the specified path is null
+     */
+    public static SkCsvIndex load(Path path) throws IOException {
+        Objects.requireNonNull(path);
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (input.readInt() != MAGIC || input.readByte() != VERSION) throw notAnIndex(path);
+            SkCsvConfig config;
+            Charset charset;
+            try {
+                config = new SkCsvConfig(input.readChar(), input.readChar());
+                charset = Charset.forName(input.readUTF());
+            } catch (IllegalArgumentException | InvalidCsvValueException e) {
+                throw new IOException("Not a SkCsv index: " + path, e);
+            }
+            if (!CsvFormatter.parsesBytes(config, charset)) throw notAnIndex(path);
+            var fileSize = input.readLong();
+            var records = input.readLong();
+            var interval = input.readInt();
+            var count = input.readInt();
+            // build() holds a checkpoint at the start of the file, then one every interval records
+            if (fileSize < 0 || records < 0 || interval <= 0 || count != records / interval + 1) throw notAnIndex(path);
+            // The checkpoints are read as a whole, so that their count is checked against the file before allocating
+            var bytes = input.readAllBytes();
+            if (bytes.length != (long) count * Long.BYTES) throw notAnIndex(path);
+            var entries = new long[count];
+            ByteBuffer.wrap(bytes).asLongBuffer().get(entries);
+            for (var entry : entries) {
+                if (entry >>> 1 > fileSize) throw notAnIndex(path);
+            }
+            return new SkCsvIndex(config, charset, fileSize, records, interval, entries);
+        }
+    }
+
+}
@@ -0,0 +1,253 @@
+package io.github.sekelenao.skcsv;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Push parser of CSV rows, fed with fragments of text as they arrive.
+ *
+ * <p>Fragments may be cut anywhere, including inside a quoted cell or a multibyte char: the state of the parser is
+ * kept from one fragment to the next. Each row is given to the sink as soon as its record terminator has been fed,
+ * so that the latency of a row only depends on the arrival of its own bytes. This suits non-blocking channels, for
+ * which the whole text is not available at once.
+ *
+ * <p>A parser is either fed with bytes, when created with a charset, or with chars. Byte fragments in {@code UTF-8}
+ * or {@code US-ASCII} with an ASCII delimiter and quote, or in {@code ISO-8859-1}, are parsed without decoding, in
+ * the same way as {@link SkCsvReader}. Other charsets are decoded first.
+ *
+ * <p>Instances of this class are not thread-safe.
+ */
+public final class SkCsvPushParser {
+
+    /**
+     * Size of the buffer in which byte fragments are decoded, when the charset cannot be parsed as bytes.
+     */
+    private static final int DECODED_SIZE = 8192;
+
+    /**
+     * Size of the buffer in which char fragments without accessible array are copied.
+     */
+    private static final int COPY_SIZE = 8192;
+
+    /**
+     * Initial size of the buffer of the bytes that do not form a whole char yet, and least room left after it grows.
+     */
+    private static final int PENDING_SIZE = 16;
+
+    private final CsvFormatter formatter;
+
+    private final Consumer<? super SkCsvRow> sink;
+
+    /**
+     * The decoder of the byte fragments, or {@code null} if bytes are parsed without decoding or chars are fed.
+     */
+    private final CharsetDecoder decoder;
+
+    /**
+     * Whether this parser is fed with bytes.
+     */
+    private final boolean bytes;
+
+    /**
+     * Bytes at the end of the last fragment that do not form a whole char yet, in write mode.
+     */
+    private ByteBuffer pending;
+
+    private CharBuffer chars;
+
+    private boolean ended;
+
+    private SkCsvPushParser(CsvFormatter formatter, Consumer<? super SkCsvRow> sink, CharsetDecoder decoder, boolean bytes) {
+        this.formatter = formatter;
+        this.sink = sink;
+        this.decoder = decoder;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Creates a parser fed with byte fragments, in the given charset, giving its rows to the specified sink.
+     *
+     * @param config the configuration to use for parsing
+     * @param charset the charset of the fragments
+     * @param sink the consumer of the parsed rows
+     * @return a new parser fed with bytes
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvPushParser ofBytes(SkCsvConfig config, Charset charset, Consumer<? super SkCsvRow> sink) {
+        SkAssertions.requireNonNulls(config, charset, sink);
+        if (CsvFormatter.parsesBytes(config, charset)) {
+            return new SkCsvPushParser(new CsvFormatter(config, charset), sink, null, true);
+        }
+        return new SkCsvPushParser(new CsvFormatter(config), sink, charset.newDecoder(), true);
+    }
+
+    /**
+     * Creates a parser fed with char fragments, giving its rows to the specified sink.
+     *
+     * @param config the configuration to use for parsing
+     * @param sink the consumer of the parsed rows
+     * @return a new parser fed with chars
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvPushParser ofChars(SkCsvConfig config, Consumer<? super SkCsvRow> sink) {
+        SkAssertions.requireNonNulls(config, sink);
+        return new SkCsvPushParser(new CsvFormatter(config), sink, null, false);
+    }
+
+    private void requireOpen(boolean fedWithBytes) {
+        if (ended) throw new IllegalStateException("The end of the text has already been reached");
+        if (bytes != fedWithBytes) throw new IllegalStateException("This parser is fed with " + (bytes ? "bytes" : "chars"));
+    }
+
+    private void parse(char[] array, int from, int to) {
+        while (from < to) {
+            var end = formatter.parse(array, from, to);
+            if (end < 0) return;
+            sink.accept(formatter.takeRow());
+            from = end;
+        }
+    }
+
+    /**
+     * Parses the remaining chars of the given buffer, which are all consumed.
+     *
+     * @param buffer the buffer to parse
+     */
+    private void parse(CharBuffer buffer) {
+        if (buffer.hasArray()) {
+            var offset = buffer.arrayOffset();
+            parse(buffer.array(), offset + buffer.position(), offset + buffer.limit());
+            buffer.position(buffer.limit());
+            return;
+        }
+        if (chars == null) chars = CharBuffer.allocate(COPY_SIZE);
+        while (buffer.hasRemaining()) {
+            chars.clear();
+            var length = Math.min(chars.capacity(), buffer.remaining());
+            buffer.get(chars.array(), 0, length);
+            parse(chars.array(), 0, length);
+        }
+    }
+
+    private static void check(CoderResult result) {
+        if (result.isError()) {
+            try {
+                result.throwException();
+            } catch (CharacterCodingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Decodes the given bytes and parses the decoded chars, leaving undecoded the bytes of an incomplete char.
+     *
+     * @param input the bytes to decode
+     * @param endOfInput whether no other bytes follow
+     */
+    private void decode(ByteBuffer input, boolean endOfInput) {
+        while (true) {
+            chars.clear();
+            var result = decoder.decode(input, chars, endOfInput);
+            check(result);
+            parse(chars.array(), 0, chars.position());
+            if (result.isUnderflow()) return;
+        }
+    }
+
+    // Makes room in the pending bytes for the specified number of bytes, leaving room for a next partial char
+    private void reserve(int bytes) {
+        if (pending.remaining() <= bytes) {
+            var required = pending.position() + bytes + PENDING_SIZE;
+            pending = ByteBuffer.allocate(Math.max(2 * pending.capacity(), required)).put(pending.flip());
+        }
+    }
+
+    private void decodeFragment(ByteBuffer fragment) {
+        if (chars == null) chars = CharBuffer.allocate(DECODED_SIZE);
+        if (pending == null) pending = ByteBuffer.allocate(PENDING_SIZE);
+        while (pending.position() > 0 && fragment.hasRemaining()) {
+            reserve(1);
+            pending.put(fragment.get()).flip();
+            decode(pending, false);
+            pending.compact();
+        }
+        decode(fragment, false);
+        if (fragment.hasRemaining()) {
+            reserve(fragment.remaining());
+            pending.put(fragment);
+        }
+    }
+
+    /**
+     * Parses the remaining bytes of the specified fragment, giving the rows it completes to the sink.
+     * The fragment is entirely consumed: its position is set to its limit.
+     *
+     * @param fragment the next bytes of the text
+     * @throws IllegalStateException if this parser is fed with chars, or if the end of the text has been reached
+     * @throws NullPointerException if the specified fragment is null
+     * @throws UncheckedIOException if the bytes are malformed for the charset
+     * @throws io.github.sekelenao.skcsv.exception.CsvParsingException if the text does not match the CSV format
+     */
+    public void feed(ByteBuffer fragment) {
+        Objects.requireNonNull(fragment);
+        requireOpen(true);
+        if (decoder != null) {
+            decodeFragment(fragment);
+            return;
+        }
+        var view = fragment.slice().order(ByteOrder.LITTLE_ENDIAN);
+        var position = 0;
+        var limit = view.limit();
+        while (position < limit) {
+            var end = formatter.parse(view, position, limit);
+            if (end < 0) break;
+            sink.accept(formatter.takeRow());
+            position = end;
+        }
+        fragment.position(fragment.limit());
+    }
+
+    /**
+     * Parses the remaining chars of the specified fragment, giving the rows it completes to the sink.
+     * The fragment is entirely consumed: its position is set to its limit.
+     *
+     * @param fragment the next chars of the text
+     * @throws IllegalStateException if this parser is fed with bytes, or if the end of the text has been reached
+     * @throws NullPointerException if the specified fragment is null
+     * @throws io.github.sekelenao.skcsv.exception.CsvParsingException if the text does not match the CSV format
+     */
+    public void feed(CharBuffer fragment) {
+        Objects.requireNonNull(fragment);
+        requireOpen(false);
+        parse(fragment);
+    }
+
+    /**
+     * Signals the end of the text, giving its last record to the sink if it has no terminator.
+     * Calling this method again has no effect.
+     *
+     * @throws UncheckedIOException if the text ends with an incomplete char
+     * @throws io.github.sekelenao.skcsv.exception.CsvParsingException if the text ends inside a quoted cell
+     */
+    public void end() {
+        if (ended) return;
+        ended = true;
+        if (decoder != null && pending != null) {
+            decode(pending.flip(), true);
+            chars.clear();
+            check(decoder.flush(chars));
+            parse(chars.array(), 0, chars.position());
+        }
+        if (formatter.endOfText()) sink.accept(formatter.takeRow());
+    }
+
+}
@@ -0,0 +1,1117 @@
+package io.github.sekelenao.skcsv;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy reader of CSV rows.
+ * This class parses the underlying text one record at a time, so that only the record being parsed is kept in memory,
+ * whatever the size of the source. The text is read in chunks into a reusable buffer, record boundaries being found
+ * by the parser itself: {@code "\n"}, {@code "\r"} and {@code "\r\n"} end a record outside quotes.
+ *
+ * <p>Files and byte streams in {@code UTF-8} or {@code US-ASCII} with an ASCII delimiter and quote, or in
+ * {@code ISO-8859-1}, are parsed byte by byte without decoding: only the content of each cell is decoded, and cells
+ * made of ASCII chars only are turned into Strings without any decoder. Other charsets are decoded before parsing.
+ *
+ * <p>Quoted cells spanning multiple lines are supported, in the same way as {@link SkCsv#from(Path, SkCsvConfig, Charset)}.
+ *
+ * <p>As an {@code Iterator}, this class cannot throw checked exceptions: I/O errors occurring while reading are
+ * wrapped in an {@link UncheckedIOException}.
+ *
+ * <p>Instances of this class hold an open source and must be closed after use, preferably with a
+ * try-with-resources statement.
+ */
+public final class SkCsvReader implements Iterator<SkCsvRow>, Closeable {
+
+    /**
+     * The source of records, parsing the underlying text on demand.
+     */
+    private final RecordSource source;
+
+    /**
+     * The next row to return, or {@code null} if it has not been parsed yet.
+     */
+    private SkCsvRow next;
+
+    /**
+     * Whether the end of the text has been reached.
+     */
+    private boolean exhausted;
+
+    /**
+     * Whether parsing has started, after which the reading options cannot be changed.
+     */
+    private boolean started;
+
+    /**
+     * The indexes of the columns to keep, or {@code null}.
+     */
+    private int[] selectedColumns;
+
+    /**
+     * The names of the columns to keep, resolved against the header once it has been read, or {@code null}.
+     */
+    private String[] selectedNames;
+
+    /**
+     * The number of records to skip after the header, if any.
+     */
+    private long skipped;
+
+    /**
+     * The number of rows this reader may still return.
+     */
+    private long remaining = Long.MAX_VALUE;
+
+    /**
+     * Whether the cells of each column are interned.
+     */
+    private boolean interned;
+
+    /**
+     * Whether the first record is read as the header instead of being returned as a row.
+     */
+    private boolean headed;
+
+    /**
+     * The header read from the first record, or {@code null}.
+     */
+    private SkCsvHeader header;
+
+    /**
+     * The cells of the first record read as the header, before projection, or those held by the checkpoint this
+     * reader resumed from, or {@code null}.
+     */
+    private List<String> headerCells;
+
+    /**
+     * The view over the rows read in place, created on first use.
+     */
+    private SkCsvRowView view;
+
+    /**
+     * The filters of the rows, applied to the parser when parsing starts.
+     */
+    private final List<ColumnFilter> filters = new ArrayList<>();
+
+    /**
+     * Filter of the rows on the cell of a column, given by its index or by its name in the header.
+     *
+     * @param column the index of the column, ignored if a name is given
+     * @param name the name of the column, or {@code null}
+     * @param predicate the predicate the cell must match
+     */
+    private record ColumnFilter(int column, String name, Predicate<String> predicate) {}
+
+    /**
+     * The checkpoint following the last row returned, while the next row has already been parsed.
+     */
+    private long checkpointOffset;
+
+    private long checkpointRecord;
+
+    private boolean checkpointAfterCarriageReturn;
+
+    private SkCsvReader(RecordSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Source of records, parsing its underlying text one record at a time.
+     */
+    interface RecordSource extends Closeable {
+
+        /**
+         * Parses the text until a whole record has been read, the record being available through the formatter until
+         * the next call.
+         *
+         * @return {@code true} if a record has been read, {@code false} if the end of the text has been reached
+         * @throws IOException if an I/O error occurs while reading
+         */
+        boolean parseRecord() throws IOException;
+
+        /**
+         * Parses the text until a whole record has been read.
+         *
+         * @return the parsed row, or {@code null} if the end of the text has been reached
+         * @throws IOException if an I/O error occurs while reading
+         */
+        default SkCsvRow parseNext() throws IOException {
+            return parseRecord() ? formatter().takeRow() : null;
+        }
+
+        /**
+         * Returns the formatter parsing the records of this source.
+         *
+         * @return the formatter of this source
+         */
+        CsvFormatter formatter();
+
+        /**
+         * Returns the offset in the text following the last record read, or the offset at which reading started.
+         *
+         * @return the offset following the last record read
+         */
+        long offset();
+
+    }
+
+    /**
+     * Source reading a character stream in chunks into a reusable buffer.
+     */
+    private static final class CharSource implements RecordSource {
+
+        /**
+         * Size of the buffer in which the character stream is read.
+         */
+        private static final int BUFFER_SIZE = 8192;
+
+        private final Reader reader;
+
+        private final CsvFormatter formatter;
+
+        private final char[] chars = new char[BUFFER_SIZE];
+
+        /**
+         * Index of the next char to parse in the buffer.
+         */
+        private int position;
+
+        /**
+         * Number of valid chars in the buffer.
+         */
+        private int limit;
+
+        /**
+         * Offset in the text of the buffer.
+         */
+        private long consumed;
+
+        private CharSource(Reader reader, SkCsvConfig config) {
+            this.reader = reader;
+            this.formatter = new CsvFormatter(config);
+        }
+
+        private CharSource(Reader reader, SkCsvConfig config, SkCsvCheckpoint checkpoint) throws IOException {
+            this(reader, config);
+            var skipped = 0L;
+            while (skipped < checkpoint.offset()) {
+                var count = reader.skip(checkpoint.offset() - skipped);
+                if (count == 0) throw new EOFException("Checkpoint beyond the end of the text");
+                skipped += count;
+            }
+            formatter.restart(checkpoint.record(), checkpoint.afterCarriageReturn());
+            consumed = checkpoint.offset();
+        }
+
+        @Override
+        public boolean parseRecord() throws IOException {
+            while (true) {
+                if (position == limit) {
+                    var read = reader.read(chars, 0, chars.length);
+                    if (read < 0) return formatter.endOfText();
+                    consumed += limit;
+                    position = 0;
+                    limit = read;
+                }
+                var end = formatter.parse(chars, position, limit);
+                if (end >= 0) {
+                    position = end;
+                    return true;
+                }
+                position = limit;
+            }
+        }
+
+        @Override
+        public CsvFormatter formatter() {
+            return formatter;
+        }
+
+        @Override
+        public long offset() {
+            return consumed + position;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+    }
+
+    /**
+     * Source reading a byte stream in chunks into a reusable buffer, its bytes being parsed without decoding.
+     */
+    private static final class ByteSource implements RecordSource {
+
+        /**
+         * Size of the buffer in which the byte stream is read.
+         */
+        private static final int BUFFER_SIZE = 1 << 16;
+
+        private final InputStream stream;
+
+        private final CsvFormatter formatter;
+
+        private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        /**
+         * Index of the next byte to parse in the buffer.
+         */
+        private int position;
+
+        /**
+         * Number of valid bytes in the buffer.
+         */
+        private int limit;
+
+        /**
+         * Offset in the text of the buffer.
+         */
+        private long consumed;
+
+        private ByteSource(InputStream stream, SkCsvConfig config, Charset charset, SkCsvCheckpoint checkpoint) {
+            this.stream = stream;
+            this.formatter = new CsvFormatter(config, charset);
+            formatter.restart(checkpoint.record(), checkpoint.afterCarriageReturn());
+            consumed = checkpoint.offset();
+        }
+
+        @Override
+        public boolean parseRecord() throws IOException {
+            while (true) {
+                if (position == limit) {
+                    var read = stream.read(bytes.array(), 0, bytes.capacity());
+                    if (read < 0) return formatter.endOfText();
+                    consumed += limit;
+                    position = 0;
+                    limit = read;
+                }
+                var end = formatter.parse(bytes, position, limit);
+                if (end >= 0) {
+                    position = end;
+                    return true;
+                }
+                position = limit;
+            }
+        }
+
+        @Override
+        public CsvFormatter formatter() {
+            return formatter;
+        }
+
+        @Override
+        public long offset() {
+            return consumed + position;
+        }
+
+        @Override
+        public void close() throws IOException {
+            stream.close();
+        }
+
+    }
+
+    /**
+     * Returns the source parsing the specified byte stream, without decoding it whenever possible.
+     *
+     * @param stream the byte stream to parse
+     * @param config the configuration to use for parsing
+     * @param charset the charset of the byte stream
+     * @return a source parsing the byte stream
+     */
+    private static RecordSource byteStreamSource(InputStream stream, SkCsvConfig config, Charset charset) {
+        if (CsvFormatter.parsesBytes(config, charset)) {
+            return new ByteSource(stream, config, charset, SkCsvCheckpoint.START);
+        }
+        return new CharSource(new InputStreamReader(stream, charset.newDecoder()), config);
+    }
+
+    /**
+     * Returns the source parsing the specified file from the given checkpoint, without decoding it whenever possible.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset of the file
+     * @param checkpoint the checkpoint from which to parse
+     * @return a source parsing the file from the checkpoint
+     * @throws IOException if an I/O error occurs while opening the file
+     */
+    private static RecordSource fileSource(Path path, SkCsvConfig config, Charset charset, SkCsvCheckpoint checkpoint)
+            throws IOException {
+        if (CsvFormatter.parsesBytes(config, charset)) {
+            var channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                if (checkpoint.offset() > channel.size()) throw new EOFException("Checkpoint beyond the end of the text");
+                return new ByteSource(Channels.newInputStream(channel.position(checkpoint.offset())), config, charset, checkpoint);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+        var reader = new InputStreamReader(Files.newInputStream(path), charset.newDecoder());
+        try {
+            return new CharSource(reader, config, checkpoint);
+        } catch (IOException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Source mapping a range of a file in memory window by window, its bytes being parsed in place.
+     * The range should start at the beginning of a record.
+     */
+    static final class MappedSource implements RecordSource {
+
+        /**
+         * Size of the windows mapped in memory.
+         */
+        private static final long WINDOW_SIZE = 1L << 26;
+
+        private final FileChannel channel;
+
+        private final CsvFormatter formatter;
+
+        /**
+         * Offset in the file of the end of the range.
+         */
+        private final long end;
+
+        /**
+         * Offset in the file of the end of the current window.
+         */
+        private long offset;
+
+        private MappedByteBuffer window;
+
+        /**
+         * Index of the next byte to parse in the current window.
+         */
+        private int position;
+
+        MappedSource(FileChannel channel, SkCsvConfig config, Charset charset, long start, long end) {
+            this.channel = channel;
+            this.formatter = new CsvFormatter(config, charset);
+            this.offset = start;
+            this.end = end;
+        }
+
+        private MappedSource(FileChannel channel, SkCsvConfig config, Charset charset, SkCsvCheckpoint checkpoint)
+                throws IOException {
+            this(channel, config, charset, checkpoint.offset(), channel.size());
+            formatter.restart(checkpoint.record(), checkpoint.afterCarriageReturn());
+        }
+
+        @Override
+        public boolean parseRecord() throws IOException {
+            while (true) {
+                if (window == null || position == window.limit()) {
+                    if (offset >= end) return formatter.endOfText();
+                    window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(WINDOW_SIZE, end - offset));
+                    window.order(ByteOrder.LITTLE_ENDIAN);
+                    offset += window.limit();
+                    position = 0;
+                }
+                var parsed = formatter.parse(window, position, window.limit());
+                if (parsed >= 0) {
+                    position = parsed;
+                    return true;
+                }
+                position = window.limit();
+            }
+        }
+
+        @Override
+        public CsvFormatter formatter() {
+            return formatter;
+        }
+
+        @Override
+        public long offset() {
+            return window == null ? offset : offset - window.limit() + position;
+        }
+
+        @Override
+        public void close() throws IOException {
+            window = null;
+            channel.close();
+        }
+
+    }
+
+    /**
+     * Reader over a {@code CharSequence}, copying chars straight to the destination buffer.
+     */
+    private static final class CharSequenceReader extends Reader {
+
+        private final CharSequence text;
+
+        private int index;
+
+        private CharSequenceReader(CharSequence text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read(char[] destination, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, destination.length);
+            if (index >= text.length()) return -1;
+            var end = Math.min(text.length(), index + length);
+            if (text instanceof String string) {
+                string.getChars(index, end, destination, offset);
+            } else {
+                for (int i = index; i < end; i++) {
+                    destination[offset++] = text.charAt(i);
+                }
+            }
+            var read = end - index;
+            index = end;
+            return read;
+        }
+
+        @Override
+        public void close() {
+            index = text.length();
+        }
+
+    }
+
+    /**
+     * Opens a reader on the specified file using the given configuration and charset.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset to use for reading the file
+     * @return a reader over the rows of the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvReader open(Path path, SkCsvConfig config, Charset charset) throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset);
+        return new SkCsvReader(byteStreamSource(Files.newInputStream(path), config, charset));
+    }
+
+    /**
+     * Opens a reader on the specified compressed file using the given configuration and charset.
+     *
+     * <p>The file is decompressed as a stream, on a separate thread reading ahead of the parser, so that decompression
+     * and parsing overlap. No temporary file is written.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset of the decompressed text
+     * @param compression the compression of the file
+     * @return a reader over the rows of the file
+     * @throws IOException if an I/O error occurs while opening the file, or if it is not compressed as specified
+     * @throws NullPointerException if any of the specified arguments is null
+     * @see SkCsvCompression#of(Path)
+     */
+    public static SkCsvReader open(Path path, SkCsvConfig config, Charset charset, SkCsvCompression compression)
+            throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset, compression);
+        if (compression == SkCsvCompression.NONE) return open(path, config, charset);
+        InputStream stream = Files.newInputStream(path);
+        try {
+            stream = PrefetchInputStream.of(compression.decompress(stream));
+            return open(stream, config, charset);
+        } catch (IOException | RuntimeException | Error e) {
+            try {
+                stream.close();
+            } catch (IOException | RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a reader on the specified file from the given checkpoint, using the given configuration and charset.
+     *
+     * <p>The checkpoint should have been given by {@link SkCsvReader#checkpoint()} for a reader of the same file,
+     * opened with the same configuration and charset. Parsing resumes at the record following the checkpoint, without
+     * reading what precedes it when the file is parsed as bytes. The reading options apply from the checkpoint on.
+     * When the checkpoint holds the header of the text, it is the header of the reader, for
+     * {@link SkCsvReader#withHeader()} as for the columns given by their name, and it is not returned as a row again.
+     * Otherwise, the first record following the checkpoint is read as the header if needed.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset to use for reading the file
+     * @param checkpoint the checkpoint from which to resume
+     * @return a reader over the rows of the file following the checkpoint
+     * @throws IOException if an I/O error occurs while opening the file, or if the checkpoint is beyond its end
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvReader open(Path path, SkCsvConfig config, Charset charset, SkCsvCheckpoint checkpoint)
+            throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset, checkpoint);
+        return new SkCsvReader(fileSource(path, config, charset, checkpoint)).resumedFrom(checkpoint);
+    }
+
+    /**
+     * Opens a reader on the specified file using the given configuration and the default charset.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @return a reader over the rows of the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvReader open(Path path, SkCsvConfig config) throws IOException {
+        SkAssertions.requireNonNulls(path, config);
+        return open(path, config, Charset.defaultCharset());
+    }
+
+    /**
+     * Opens a reader on the specified file using the default configuration and the given charset.
+     *
+     * @param path the path to the file
+     * @param charset the charset to use for reading the file
+     * @return a reader over the rows of the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvReader open(Path path, Charset charset) throws IOException {
+        SkAssertions.requireNonNulls(path, charset);
+        return open(path, SkCsvConfig.SEMICOLON, charset);
+    }
+
+    /**
+     * Opens a reader on the specified file using the default configuration and the default charset.
+     *
+     * @param path the path to the file
+     * @return a reader over the rows of the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws NullPointerException if the specified path is null
+     */
+    public static SkCsvReader open(Path path) throws IOException {
+        return open(Objects.requireNonNull(path), SkCsvConfig.SEMICOLON);
+    }
+
+    /**
+     * Opens a reader on the specified character stream using the given configuration.
+     * The character stream is read in chunks, there is no need to wrap it in a buffered reader.
+     *
+     * @param reader the character stream to parse
+     * @param config the configuration to use for parsing
+     * @return a reader over the rows of the character stream, closing it when closed
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvReader open(Reader reader, SkCsvConfig config) {
+        SkAssertions.requireNonNulls(reader, config);
+        return new SkCsvReader(new CharSource(reader, config));
+    }
+
+    /**
+     * Opens a reader on the specified byte stream using the given configuration and charset.
+     * Malformed input for the given charset is reported as an error while reading.
+     *
+     * @param stream the byte stream to parse
+     * @param config the configuration to use for parsing
+     * @param charset the charset to use for decoding the byte stream
+     * @return a reader over the rows of the byte stream, closing it when closed
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvReader open(InputStream stream, SkCsvConfig config, Charset charset) {
+        SkAssertions.requireNonNulls(stream, config, charset);
+        return new SkCsvReader(byteStreamSource(stream, config, charset));
+    }
+
+    /**
+     * Opens a reader on the specified text using the given configuration.
+     * The text is not copied, so it should not be modified while being read.
+     *
+     * @param text the text to parse
+     * @param config the configuration to use for parsing
+     * @return a reader over the rows of the text
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvReader open(CharSequence text, SkCsvConfig config) {
+        SkAssertions.requireNonNulls(text, config);
+        return new SkCsvReader(new CharSource(new CharSequenceReader(text), config));
+    }
+
+    /**
+     * Opens a reader mapping the specified file in memory, using the given configuration and charset.
+     *
+     * <p>The file is mapped window by window and its bytes are parsed in place, only the content of the cells being
+     * decoded. This avoids copying the whole text through a decoder and lets the operating system page cache do the
+     * buffering, which is best suited to large local files.
+     *
+     * <p>Mapping is supported for the {@code UTF-8} and {@code US-ASCII} charsets when the delimiter and the quote are
+     * ASCII chars, and for the {@code ISO-8859-1} charset. Otherwise, this method falls back to
+     * {@link SkCsvReader#open(Path, SkCsvConfig, Charset)}.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset to use for decoding the cells
+     * @return a reader over the rows of the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvReader openMapped(Path path, SkCsvConfig config, Charset charset) throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset);
+        if (!CsvFormatter.parsesBytes(config, charset)) return open(path, config, charset);
+        var channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new SkCsvReader(new MappedSource(channel, config, charset, 0, channel.size()));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a reader mapping the specified file in memory from the given checkpoint, using the given configuration
+     * and charset. The checkpoint is handled as by {@link SkCsvReader#open(Path, SkCsvConfig, Charset, SkCsvCheckpoint)}
+     * and the file as by {@link SkCsvReader#openMapped(Path, SkCsvConfig, Charset)}.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for parsing
+     * @param charset the charset to use for decoding the cells
+     * @param checkpoint the checkpoint from which to resume
+     * @return a reader over the rows of the file following the checkpoint
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvReader openMapped(Path path, SkCsvConfig config, Charset charset, SkCsvCheckpoint checkpoint)
+            throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset, checkpoint);
+        if (!CsvFormatter.parsesBytes(config, charset)) return open(path, config, charset, checkpoint);
+        var channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new SkCsvReader(new MappedSource(channel, config, charset, checkpoint)).resumedFrom(checkpoint);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Takes the header held by the checkpoint this reader resumes from
+    private SkCsvReader resumedFrom(SkCsvCheckpoint checkpoint) {
+        headerCells = checkpoint.header();
+        return this;
+    }
+
+    private void requireNotStarted() {
+        if (started) throw new IllegalStateException("Rows have already been read");
+    }
+
+    /**
+     * Keeps only the specified columns, in the specified order, in the rows returned by this reader.
+     * The cells of the other columns are only scanned to find where records end: their content is never copied nor
+     * turned into Strings. A record lacking a selected column gets an empty cell in its place.
+     *
+     * @param columns the indexes of the columns to keep
+     * @return this reader
+     * @throws IllegalArgumentException if a column is negative or selected twice
+     * @throws IllegalStateException if rows have already been read
+     * @throws NullPointerException if the specified array is null
+     */
+    public SkCsvReader select(int... columns) {
+        CsvFormatter.checkColumns(columns);
+        requireNotStarted();
+        selectedColumns = columns.clone();
+        selectedNames = null;
+        return this;
+    }
+
+    /**
+     * Keeps only the columns having the specified names, in the specified order, in the rows returned by this reader.
+     * The names are looked for in the header, which is the first row of the text, and which is returned projected like
+     * the other rows unless read by {@link SkCsvReader#withHeader()}. Apart from the header, the cells of the other
+     * columns are never copied nor turned into Strings.
+     *
+     * @param names the names of the columns to keep
+     * @return this reader
+     * @throws IllegalArgumentException while reading the header, if a name is not found or is selected twice
+     * @throws IllegalStateException if rows have already been read
+     * @throws NullPointerException if the specified array or any of its elements is null
+     */
+    public SkCsvReader select(String... names) {
+        SkAssertions.requireNonNulls((Object[]) Objects.requireNonNull(names));
+        requireNotStarted();
+        selectedNames = names.clone();
+        selectedColumns = null;
+        return this;
+    }
+
+    /**
+     * Keeps only the rows whose cell in the specified column matches the given predicate.
+     *
+     * <p>The predicate is tested as soon as the cell has been parsed. When it does not match, the rest of the record is
+     * only scanned to find its end: no String is built for its other cells, and no row is allocated. A record lacking
+     * the column is rejected. When several filters are given, a row is kept only if it matches all of them.
+     *
+     * @param column the index of the column to test
+     * @param predicate the predicate the cell must match
+     * @return this reader
+     * @throws IllegalArgumentException if the column is negative
+     * @throws IllegalStateException if rows have already been read
+     * @throws NullPointerException if the specified predicate is null
+     */
+    public SkCsvReader filter(int column, Predicate<String> predicate) {
+        Objects.requireNonNull(predicate);
+        CsvFormatter.checkColumns(column);
+        requireNotStarted();
+        filters.add(new ColumnFilter(column, null, predicate));
+        return this;
+    }
+
+    /**
+     * Keeps only the rows whose cell in the column having the specified name matches the given predicate.
+     * The name is looked for in the header, which is the first row of the text, and which is always returned unless
+     * read by {@link SkCsvReader#withHeader()}.
+     * Apart from this, it behaves as {@link SkCsvReader#filter(int, Predicate)}.
+     *
+     * @param name the name of the column to test
+     * @param predicate the predicate the cell must match
+     * @return this reader
+     * @throws IllegalArgumentException while reading the header, if the name is not found
+     * @throws IllegalStateException if rows have already been read
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public SkCsvReader filter(String name, Predicate<String> predicate) {
+        SkAssertions.requireNonNulls(name, predicate);
+        requireNotStarted();
+        filters.add(new ColumnFilter(-1, name, predicate));
+        return this;
+    }
+
+    /**
+     * Reads the first record of the text as its header, given by {@link SkCsvReader#header()} instead of being
+     * returned as a row. The names of the columns are resolved once, so that cells can then be accessed by name at the
+     * cost of an access by index, through the {@link SkCsvHeader.Column} handles of the header.
+     *
+     * @return this reader
+     * @throws IllegalStateException if rows have already been read
+     */
+    public SkCsvReader withHeader() {
+        requireNotStarted();
+        headed = true;
+        return this;
+    }
+
+    /**
+     * Makes the rows returned by this reader share the Strings of their repeated cells.
+     *
+     * <p>Each column gets a bounded dictionary of its last cells. The content of a cell is hashed and looked for in
+     * the dictionary before any String is built, the String found being handed out instead of a new one. This greatly
+     * reduces the memory used by the rows kept in memory when columns hold few distinct values, such as codes or
+     * statuses, at the cost of a lookup per cell. Only short cells are interned.
+     *
+     * @return this reader
+     * @throws IllegalStateException if rows have already been read
+     */
+    public SkCsvReader intern() {
+        requireNotStarted();
+        interned = true;
+        return this;
+    }
+
+    /**
+     * Skips the specified number of records before returning rows.
+     * Skipped records are only scanned to find where they end: their cells are never copied nor turned into Strings.
+     *
+     * <p>When the first row is a header, because a column is given by its name or because of
+     * {@link SkCsvReader#withHeader()}, the header is not skipped and the records following it are. Records are
+     * skipped before being filtered.
+     *
+     * @param records the number of records to skip
+     * @return this reader
+     * @throws IllegalArgumentException if the number of records is negative
+     * @throws IllegalStateException if rows have already been read
+     */
+    public SkCsvReader skip(long records) {
+        SkAssertions.positive(records);
+        requireNotStarted();
+        skipped = records;
+        return this;
+    }
+
+    /**
+     * Limits the number of rows returned by this reader, header included when it is returned as a row.
+     * Once the limit has been reached, the source is not read anymore.
+     *
+     * @param rows the maximum number of rows to return
+     * @return this reader
+     * @throws IllegalArgumentException if the number of rows is negative
+     * @throws IllegalStateException if rows have already been read
+     */
+    public SkCsvReader limit(long rows) {
+        SkAssertions.positive(rows);
+        requireNotStarted();
+        remaining = rows;
+        return this;
+    }
+
+    /**
+     * Applies the reading options to the parser, once the header has been read if a column is given by its name.
+     *
+     * @return the header projected like the other rows, or {@code null} if there is no header or if it is not returned
+     *         as a row
+     * @throws IOException if an I/O error occurs while reading
+     */
+    private SkCsvRow start() throws IOException {
+        var usesHeader = headed || selectedNames != null || filters.stream().anyMatch(filter -> filter.name() != null);
+        SkCsvHeader names = null;
+        SkCsvRow header = null;
+        var resumed = headerCells != null;
+        if (usesHeader) {
+            header = resumed ? new SkCsvRow(headerCells) : source.parseNext();
+            if (header == null) {
+                if (headed) this.header = SkCsvHeader.of();
+                return null;
+            }
+            names = SkCsvHeader.of(header);
+            headerCells = header.stream().toList();
+        }
+        var formatter = source.formatter();
+        var columns = selectedColumns;
+        if (selectedNames != null) {
+            columns = new int[selectedNames.length];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = names.column(selectedNames[i]).index();
+            }
+        }
+        if (columns != null) formatter.project(columns);
+        for (var filter : filters) {
+            var column = filter.name() == null ? filter.column() : names.column(filter.name()).index();
+            formatter.filter(column, filter.predicate());
+        }
+        formatter.skip(skipped);
+        if (interned) formatter.intern();
+        if (!usesHeader) return null;
+        var projected = header;
+        if (columns != null) {
+            projected = new SkCsvRow();
+            for (var column : columns) {
+                projected.add(column < header.size() ? header.get(column) : "");
+            }
+        }
+        if (!headed) return resumed ? null : projected;
+        this.header = SkCsvHeader.of(projected);
+        return null;
+    }
+
+    /**
+     * Returns the header of the text, read from its first record.
+     *
+     * <p>The header describes the rows returned by this reader: when columns are selected, it only holds the selected
+     * columns, in the selected order. Its {@link SkCsvHeader.Column} handles can therefore be used to access the cells
+     * of every row, at the cost of an access by index. If no row has been read yet, the header is read by this method.
+     * An empty text has an empty header.
+     *
+     * @return the header of the text
+     * @throws IllegalStateException if this reader has not been configured with {@link SkCsvReader#withHeader()}
+     * @throws UncheckedIOException if an I/O error occurs while reading
+     * @throws io.github.sekelenao.skcsv.exception.CsvParsingException if the text does not match the CSV format
+     */
+    public SkCsvHeader header() {
+        if (!headed) throw new IllegalStateException("This reader has no header");
+        if (!started) {
+            started = true;
+            saveCheckpoint();
+            try {
+                next = start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return header;
+    }
+
+    /**
+     * Returns {@code true} if the text contains another row.
+     *
+     * @return {@code true} if the text contains another row, {@code false} otherwise
+     * @throws UncheckedIOException if an I/O error occurs while reading
+     * @throws io.github.sekelenao.skcsv.exception.CsvParsingException if the text does not match the CSV format
+     */
+    @Override
+    public boolean hasNext() {
+        if (next != null) return true;
+        if (exhausted) return false;
+        if (remaining == 0) {
+            exhausted = true;
+            return false;
+        }
+        saveCheckpoint();
+        try {
+            if (!started) {
+                started = true;
+                next = start();
+            }
+            if (next == null) next = source.parseNext();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        exhausted = next == null;
+        if (!exhausted) remaining--;
+        return !exhausted;
+    }
+
+    /**
+     * Returns the next row of the text.
+     *
+     * @return the next row of the text
+     * @throws NoSuchElementException if the text has no more rows
+     * @throws UncheckedIOException if an I/O error occurs while reading
+     * @throws io.github.sekelenao.skcsv.exception.CsvParsingException if the text does not match the CSV format
+     */
+    @Override
+    public SkCsvRow next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        var row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * Performs the given action on a view of each remaining row of this reader.
+     *
+     * <p>Unlike {@link SkCsvReader#next()}, this method does not build a row per record: the action is given a
+     * {@link SkCsvRowView} reading the cells in place in the buffer of the parser, the same view being reused from
+     * one row to the next. Rows read this way produce no garbage once the buffers have reached their size, which
+     * suits aggregations over large files. The view is only valid during the call to the action.
+     *
+     * @param action the action to perform on each row
+     * @throws NullPointerException if the specified action is null
+     * @throws UncheckedIOException if an I/O error occurs while reading
+     * @throws io.github.sekelenao.skcsv.exception.CsvParsingException if the text does not match the CSV format
+     */
+    public void forEachView(Consumer<? super SkCsvRowView> action) {
+        Objects.requireNonNull(action);
+        while (tryAdvanceView(action)) {
+            // the action is performed by tryAdvanceView
+        }
+    }
+
+    /**
+     * Performs the given action on a view of the next row of this reader, if any.
+     *
+     * @param action the action to perform on the next row
+     * @return {@code false} if there is no row left, {@code true} otherwise
+     * @throws UncheckedIOException if an I/O error occurs while reading
+     */
+    boolean tryAdvanceView(Consumer<? super SkCsvRowView> action) {
+        if (view == null) view = new SkCsvRowView(source.formatter());
+        if (!started && !exhausted && remaining > 0) {
+            started = true;
+            saveCheckpoint();
+            try {
+                next = start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (next != null) remaining--;
+        }
+        if (next != null) {
+            view.show(next());
+            try {
+                action.accept(view);
+            } finally {
+                view.show(null);
+            }
+            return true;
+        }
+        if (exhausted || remaining == 0) {
+            exhausted = true;
+            return false;
+        }
+        try {
+            exhausted = !source.parseRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (exhausted) return false;
+        remaining--;
+        action.accept(view);
+        return true;
+    }
+
+    // Saves the position of the source, which follows the last row returned, before parsing the next row ahead
+    private void saveCheckpoint() {
+        var formatter = source.formatter();
+        checkpointOffset = source.offset();
+        checkpointRecord = formatter.records();
+        checkpointAfterCarriageReturn = formatter.endedWithCarriageReturn();
+    }
+
+    /**
+     * Returns a checkpoint following the last row returned by this reader, or given as a view to an action, from
+     * which reading can be resumed with {@link SkCsvReader#open(Path, SkCsvConfig, Charset, SkCsvCheckpoint)}.
+     *
+     * <p>The checkpoint holds the offset in the text following the record of the row, the number of records read so
+     * far and whether the record ended with a {@code '\r'}. Before any row has been returned, it holds the position
+     * at which this reader started. Once the header has been read, it also holds its cells.
+     *
+     * @return a checkpoint following the last row returned
+     */
+    public SkCsvCheckpoint checkpoint() {
+        if (next == null) saveCheckpoint();
+        var cells = checkpointRecord == 0 ? null : headerCells;
+        return new SkCsvCheckpoint(checkpointOffset, checkpointRecord, checkpointAfterCarriageReturn, cells);
+    }
+
+    /**
+     * Returns a sequential {@code Stream} over the remaining rows of this reader.
+     * Closing the stream closes this reader.
+     *
+     * <p><strong>Note:</strong> The {@code Stream} provided by this method is {@link Spliterator#NONNULL} and
+     * {@link Spliterator#ORDERED}.
+     *
+     * @return a sequential {@code Stream} over the remaining rows of this reader
+     */
+    public Stream<SkCsvRow> stream() {
+        var spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.NONNULL | Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Closes this reader and its underlying source.
+     *
+     * @throws IOException if an I/O error occurs while closing
+     */
+    @Override
+    public void close() throws IOException {
+        exhausted = true;
+        next = null;
+        source.close();
+    }
+
+}
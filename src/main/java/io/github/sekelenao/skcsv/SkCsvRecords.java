@@ -1,22 +1,41 @@
 package io.github.sekelenao.skcsv;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.RecordComponent;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Utility class for exporting records to CSV files.
- * This class provides static methods for exporting records to CSV format.
+ * Utility class for exporting records to CSV files and importing them back.
+ * This class provides static methods for exporting records to CSV format, and for reading records from it.
  */
 public final class SkCsvRecords {
 
@@ -98,6 +117,253 @@ public final class SkCsvRecords {
     };
 
 
+    /**
+     * Parsers of the supported reference types of the components read from cells, other than String and enums.
+     */
+    private static final Map<Class<?>, Function<String, ?>> PARSERS = Map.ofEntries(
+            Map.entry(Byte.class, Byte::valueOf),
+            Map.entry(Short.class, Short::valueOf),
+            Map.entry(Integer.class, Integer::valueOf),
+            Map.entry(Long.class, Long::valueOf),
+            Map.entry(Float.class, Float::valueOf),
+            Map.entry(Double.class, Double::valueOf),
+            Map.entry(Boolean.class, Boolean::valueOf),
+            Map.entry(Character.class, SkCsvRecords::parseChar),
+            Map.entry(BigInteger.class, BigInteger::new),
+            Map.entry(BigDecimal.class, BigDecimal::new),
+            Map.entry(UUID.class, UUID::fromString),
+            Map.entry(LocalDate.class, LocalDate::parse),
+            Map.entry(LocalTime.class, LocalTime::parse),
+            Map.entry(LocalDateTime.class, LocalDateTime::parse),
+            Map.entry(Instant.class, Instant::parse)
+    );
+
+    private static char parseChar(String text) {
+        if (text.length() != 1) throw new IllegalArgumentException("Not a single char: " + text);
+        return text.charAt(0);
+    }
+
+    private static byte byteCell(SkCsvRowView view, int index) {
+        return Byte.parseByte(view.getString(index));
+    }
+
+    private static short shortCell(SkCsvRowView view, int index) {
+        return Short.parseShort(view.getString(index));
+    }
+
+    private static float floatCell(SkCsvRowView view, int index) {
+        return Float.parseFloat(view.getString(index));
+    }
+
+    private static char charCell(SkCsvRowView view, int index) {
+        return parseChar(view.getString(index));
+    }
+
+    // Reference values are exported with String.valueOf, which writes null as "null"
+    private static Object objectCell(Function<String, ?> parser, SkCsvRowView view, int index) {
+        var text = view.getString(index);
+        return "null".equals(text) ? null : parser.apply(text);
+    }
+
+    private static Function<String, ?> parserOf(Class<?> type) {
+        if (type.isEnum()) {
+            var constants = Arrays.stream(type.getEnumConstants())
+                    .collect(Collectors.toUnmodifiableMap(c -> ((Enum<?>) c).name(), Function.identity()));
+            return text -> {
+                var constant = constants.get(text);
+                if (constant == null) throw new IllegalArgumentException("Unknown constant: " + text);
+                return constant;
+            };
+        }
+        var parser = PARSERS.get(type);
+        if (parser == null) throw new IllegalArgumentException("Unsupported component type: " + type.getName());
+        return parser;
+    }
+
+    /**
+     * Returns a method handle reading the value of the specified type from the cell at the specified index of a view.
+     *
+     * <p>The primitives read by {@link SkCsvRowView} are parsed straight from the cell, without boxing nor building a
+     * string, and the other types are parsed from the string of the cell.
+     *
+     * @param type the type of the value
+     * @param index the index of the cell
+     * @return a method handle of type {@code (SkCsvRowView)type}
+     * @throws IllegalArgumentException if the type is not supported
+     */
+    private static MethodHandle cellReader(Class<?> type, int index) throws ReflectiveOperationException {
+        var lookup = MethodHandles.lookup();
+        MethodHandle reader;
+        if (type == int.class || type == long.class || type == double.class || type == boolean.class) {
+            var name = "get" + Character.toUpperCase(type.getName().charAt(0)) + type.getName().substring(1);
+            reader = lookup.findVirtual(SkCsvRowView.class, name, MethodType.methodType(type, int.class));
+        } else if (type == String.class) {
+            var cellType = MethodType.methodType(String.class, int.class);
+            reader = lookup.findVirtual(SkCsvRowView.class, "getString", cellType);
+        } else if (type.isPrimitive()) {
+            var cellType = MethodType.methodType(type, SkCsvRowView.class, int.class);
+            reader = lookup.findStatic(SkCsvRecords.class, type.getName() + "Cell", cellType);
+        } else {
+            var cellType = MethodType.methodType(Object.class, Function.class, SkCsvRowView.class, int.class);
+            reader = lookup.findStatic(SkCsvRecords.class, "objectCell", cellType)
+                    .bindTo(parserOf(type))
+                    .asType(MethodType.methodType(type, SkCsvRowView.class, int.class));
+        }
+        return MethodHandles.insertArguments(reader, 1, index);
+    }
+
+    /**
+     * Class-value that maintains a cache of the constructors of records from a row of CSV.
+     *
+     * <p>This class-value stores, for each record type, a method handle of type {@code (SkCsvRowView)Record}. It calls
+     * the canonical constructor with the components annotated with CsvColumn read from the cells of the view, in the
+     * order of the components, as they are exported. The other components are given their default value: null, zero
+     * or false. The handle is built once per type, so that reading a record then costs no reflection.
+     */
+    private static final ClassValue<MethodHandle> READERS = new ClassValue<>() {
+
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            Objects.requireNonNull(type);
+            if (!type.isRecord()) throw new IllegalArgumentException("Not a record: " + type.getName());
+            var components = type.getRecordComponents();
+            var componentTypes = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+            try {
+                var canonical = type.getDeclaredConstructor(componentTypes);
+                var constructor = MethodHandles.lookup().unreflectConstructor(canonical);
+                var filters = new MethodHandle[components.length];
+                var cell = 0;
+                for (int i = 0; i < components.length; i++) {
+                    var componentType = componentTypes[i];
+                    filters[i] = components[i].isAnnotationPresent(CsvColumn.class)
+                            ? cellReader(componentType, cell++)
+                            : MethodHandles.dropArguments(MethodHandles.zero(componentType), 0, SkCsvRowView.class);
+                }
+                var reader = MethodHandles.filterArguments(constructor, 0, filters);
+                reader = reader.asType(reader.type().changeReturnType(Record.class));
+                var viewType = MethodType.methodType(Record.class, SkCsvRowView.class);
+                return MethodHandles.permuteArguments(reader, viewType, new int[components.length]);
+            } catch (IllegalAccessException e) {
+                throw new IllegalAccessError(e.getMessage());
+            } catch (NoSuchMethodException e) {
+                throw new NoSuchMethodError(e.getMessage());
+            } catch (ReflectiveOperationException e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+
+    };
+
+    /**
+     * Invokes the specified record reader on the given view in a secure manner.
+     *
+     * @param reader the record reader to invoke
+     * @param view the view over the current row
+     * @return the record read from the row
+     * @throws RuntimeException if the conversion of a cell or the constructor throws a runtime exception
+     * @throws Error if the conversion of a cell or the constructor throws an error
+     * @throws UndeclaredThrowableException if the constructor throws a checked exception
+     */
+    private static Record secureRead(MethodHandle reader, SkCsvRowView view) {
+        try {
+            return (Record) reader.invokeExact(view);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * Returns a sequential {@code Stream} of the records of the specified type read from the remaining rows of the
+     * given reader. Closing the stream closes the reader.
+     *
+     * <p>The components annotated with {@link CsvColumn} are read from the cells of each row, in order, as they are
+     * written by {@link #export(Path, Iterable, SkCsvConfig, OpenOption...) export}, and the other components are
+     * given their default value. The rows are read in place through a {@link SkCsvRowView}, so that the {@code int},
+     * {@code long}, {@code double} and {@code boolean} components are parsed straight from the cells. The other
+     * supported types are the other primitives and their wrappers, {@code String}, enums, {@code BigInteger},
+     * {@code BigDecimal}, {@code UUID}, {@code LocalDate}, {@code LocalTime}, {@code LocalDateTime} and
+     * {@code Instant}, a cell holding {@code null} being read as null for the reference types other than
+     * {@code String}.
+     *
+     * <p>The canonical constructor of each record type is resolved once, into a method handle cached for the type.
+     *
+     * <p><strong>Note:</strong> The {@code Stream} provided by this method is {@link Spliterator#NONNULL} and
+     * {@link Spliterator#ORDERED}. An I/O error while reading is thrown as an {@link UncheckedIOException}.
+     *
+     * @param reader the reader of the rows
+     * @param type the type of the records
+     * @param <R> the type of the records
+     * @return a sequential {@code Stream} of the records read from the rows
+     * @throws IllegalArgumentException if the type is not a record, or has an annotated component of an unsupported
+     * type
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static <R extends Record> Stream<R> read(SkCsvReader reader, Class<R> type) {
+        SkAssertions.requireNonNulls(reader, type);
+        var recordReader = READERS.get(type);
+        var characteristics = Spliterator.NONNULL | Spliterator.ORDERED;
+        var spliterator = new Spliterators.AbstractSpliterator<R>(Long.MAX_VALUE, characteristics) {
+
+            @Override
+            public boolean tryAdvance(Consumer<? super R> action) {
+                Objects.requireNonNull(action);
+                return reader.tryAdvanceView(view -> action.accept(type.cast(secureRead(recordReader, view))));
+            }
+
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Returns a sequential {@code Stream} of the records of the specified type read from the CSV file at the
+     * specified path using the given configuration. The file is read in UTF-8, as it is written by
+     * {@link #export(Path, Iterable, SkCsvConfig, OpenOption...) export}, and closed when the stream is closed.
+     *
+     * <p>The records are read as described in {@link #read(SkCsvReader, Class)}.
+     *
+     * @param path the path to the CSV file to read the records from
+     * @param type the type of the records
+     * @param config the CSV configuration used to parse the file
+     * @param <R> the type of the records
+     * @return a sequential {@code Stream} of the records read from the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws IllegalArgumentException if the type is not a record, or has an annotated component of an unsupported
+     * type
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static <R extends Record> Stream<R> read(Path path, Class<R> type, SkCsvConfig config) throws IOException {
+        SkAssertions.requireNonNulls(path, type, config);
+        READERS.get(type);
+        return read(SkCsvReader.open(path, config, StandardCharsets.UTF_8), type);
+    }
+
+    /**
+     * Returns a sequential {@code Stream} of the records of the specified type read from the CSV file at the
+     * specified path using the default configuration {@link SkCsvConfig#SEMICOLON SEMICOLON}.
+     *
+     * @param path the path to the CSV file to read the records from
+     * @param type the type of the records
+     * @param <R> the type of the records
+     * @return a sequential {@code Stream} of the records read from the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws IllegalArgumentException if the type is not a record, or has an annotated component of an unsupported
+     * type
+     * @throws NullPointerException if any of the specified arguments is null
+     * @see #read(Path, Class, SkCsvConfig)
+     */
+    public static <R extends Record> Stream<R> read(Path path, Class<R> type) throws IOException {
+        SkAssertions.requireNonNulls(path, type);
+        return read(path, type, SkCsvConfig.SEMICOLON);
+    }
+
     /**
      * Exports the provided records to a CSV file at the specified path using the given configuration.
      *
@@ -112,16 +378,51 @@ public final class SkCsvRecords {
      */
     public static void export(Path path, Iterable<? extends Record> records, SkCsvConfig config, OpenOption... options) throws IOException {
         SkAssertions.requireNonNulls(path, records, config, options);
-        var formatter = new CsvFormatter(config);
-        try (var writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, options)) {
-            for (var rcd : records) {
-                var values = CACHE.get(rcd.getClass()).stream()
-                        .map(f -> f.apply(rcd))
-                        .toList();
-                writer.write(formatter.toCsvString(values));
-                writer.newLine();
+        try (var writer = SkCsvWriter.open(path, config, StandardCharsets.UTF_8, options)) {
+            write(writer, records);
+        }
+    }
+
+    private static void write(SkCsvWriter writer, Iterable<? extends Record> records) throws IOException {
+        for (var rcd : records) {
+            for (var toString : CACHE.get(rcd.getClass())) {
+                writer.writeCell(toString.apply(rcd));
+            }
+            writer.endRow();
+        }
+    }
+
+    /**
+     * Exports the provided records to a CSV file at the specified path using the given configuration, the file being
+     * written on a separate thread.
+     *
+     * <p>The records are formatted on the calling thread while a dedicated thread writes them to the file, as by
+     * {@link SkCsvWriter#openAsync(Path, SkCsvConfig, Charset, OpenOption...)}. This method returns once every record
+     * has been formatted, the returned future being completed once the file has been written and closed, or
+     * exceptionally by the {@link IOException} that prevented it.
+     *
+     * @param path the path to the CSV file to export the records to
+     * @param records the iterable of records to export
+     * @param config the CSV configuration to use for formatting the exported data
+     * @param options the open options specifying how the file is opened
+     * @return a future completed once the file has been written
+     * @throws IOException if an I/O error occurs while opening the file, or has already occurred while writing it
+     */
+    public static CompletableFuture<Void> exportAsync(Path path, Iterable<? extends Record> records, SkCsvConfig config,
+                                                      OpenOption... options) throws IOException {
+        SkAssertions.requireNonNulls(path, records, config, options);
+        var writer = SkCsvWriter.openAsync(path, config, StandardCharsets.UTF_8, options);
+        try {
+            write(writer, records);
+        } catch (IOException | RuntimeException | Error e) {
+            try {
+                writer.close();
+            } catch (IOException | RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
             }
+            throw e;
         }
+        return writer.closeAsync();
     }
 
     /**
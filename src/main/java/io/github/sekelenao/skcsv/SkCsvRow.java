@@ -290,6 +290,18 @@ public class SkCsvRow implements Iterable<String>, RandomAccess {
         return cells[index];
     }
 
+    /**
+     * Returns the value of the specified column in this SkCsvRow, as a direct access to its index.
+     *
+     * @param column the column of the element to return, given by a {@link SkCsvHeader}
+     * @return the value of the specified column
+     * @throws IndexOutOfBoundsException if the index of the column is out of range
+     * @throws NullPointerException if the specified column is null
+     */
+    public String get(SkCsvHeader.Column column) {
+        return get(column.index());
+    }
+
     /**
      * Returns the first value in this SkCsvRow.
      *
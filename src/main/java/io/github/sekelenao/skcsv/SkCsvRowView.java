@@ -0,0 +1,261 @@
+package io.github.sekelenao.skcsv;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Reusable view over the row being read by a {@link SkCsvReader}, given by {@link SkCsvReader#forEachView}.
+ *
+ * <p>The cells are read in place in the buffer of the parser: no String nor row is built unless asked for. The same
+ * view, and the same {@code CharSequence} for a given index, are reused from one row to the next, so that reading rows
+ * through views produces no garbage once the buffers have reached their size.
+ *
+ * <p>A view, and the {@code CharSequence} it gives, are only valid during the call to the action they are given to.
+ * Contents that must be kept should be copied, with {@link SkCsvRowView#getString(int)} or
+ * {@link SkCsvRowView#toRow()}.
+ */
+public final class SkCsvRowView {
+
+    /**
+     * The formatter holding the row being read.
+     */
+    private final CsvFormatter formatter;
+
+    /**
+     * The reusable cells of this view, by index.
+     */
+    private CsvFormatter.CellSlice[] cells = new CsvFormatter.CellSlice[0];
+
+    /**
+     * The row shown by this view instead of the record of the formatter, or {@code null}.
+     */
+    private SkCsvRow row;
+
+    SkCsvRowView(CsvFormatter formatter) {
+        this.formatter = formatter;
+    }
+
+    /**
+     * Shows the specified row instead of the record of the formatter, or the record again if the row is null.
+     *
+     * @param row the row to show, or {@code null}
+     */
+    void show(SkCsvRow row) {
+        this.row = row;
+    }
+
+    /**
+     * Returns the number of cells in the row.
+     *
+     * @return the number of cells in the row
+     */
+    public int size() {
+        if (row != null) return row.size();
+        return formatter.recordSize();
+    }
+
+    /**
+     * Returns the content of the cell at the specified index, read in place.
+     * The returned {@code CharSequence} is reused for the same index in the next rows.
+     *
+     * @param index the index of the cell
+     * @return the content of the cell
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public CharSequence get(int index) {
+        if (row != null) return row.get(index);
+        Objects.checkIndex(index, formatter.recordSize());
+        if (index >= cells.length) cells = Arrays.copyOf(cells, Math.max(index + 1, cells.length << 1));
+        var cell = cells[index];
+        if (cell == null) cell = cells[index] = new CsvFormatter.CellSlice();
+        return formatter.cell(index, cell);
+    }
+
+    /**
+     * Returns the content of the cell of the specified column, read in place, as {@link SkCsvRowView#get(int)} does.
+     *
+     * @param column the column of the cell, given by a {@link SkCsvHeader}
+     * @return the content of the cell
+     * @throws IndexOutOfBoundsException if the index of the column is out of range
+     * @throws NullPointerException if the specified column is null
+     */
+    public CharSequence get(SkCsvHeader.Column column) {
+        return get(column.index());
+    }
+
+    /**
+     * Returns the content of the cell at the specified index as a String.
+     *
+     * @param index the index of the cell
+     * @return the content of the cell
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public String getString(int index) {
+        if (row != null) return row.get(index);
+        return formatter.cellString(index);
+    }
+
+    /**
+     * Returns the content of the cell of the specified column as a String.
+     *
+     * @param column the column of the cell, given by a {@link SkCsvHeader}
+     * @return the content of the cell
+     * @throws IndexOutOfBoundsException if the index of the column is out of range
+     * @throws NullPointerException if the specified column is null
+     */
+    public String getString(SkCsvHeader.Column column) {
+        return getString(column.index());
+    }
+
+    /**
+     * Returns the content of the cell at the specified index parsed as an {@code int}, read in place.
+     * The cell is parsed as by {@link Integer#parseInt(String)}, without building any String.
+     *
+     * @param index the index of the cell
+     * @return the content of the cell as an {@code int}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NumberFormatException if the cell does not hold an {@code int}
+     */
+    public int getInt(int index) {
+        return CellParser.parseInt(get(index));
+    }
+
+    /**
+     * Returns the cell of the specified column parsed as an {@code int}, see {@link SkCsvRowView#getInt(int)}.
+     *
+     * @param column the column of the cell, given by a {@link SkCsvHeader}
+     * @return the content of the cell as an {@code int}
+     * @throws IndexOutOfBoundsException if the index of the column is out of range
+     * @throws NumberFormatException if the cell does not hold an {@code int}
+     * @throws NullPointerException if the specified column is null
+     */
+    public int getInt(SkCsvHeader.Column column) {
+        return getInt(column.index());
+    }
+
+    /**
+     * Returns the content of the cell at the specified index parsed as a {@code long}, read in place.
+     * The cell is parsed as by {@link Long#parseLong(String)}, without building any String.
+     *
+     * @param index the index of the cell
+     * @return the content of the cell as a {@code long}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NumberFormatException if the cell does not hold a {@code long}
+     */
+    public long getLong(int index) {
+        return CellParser.parseLong(get(index));
+    }
+
+    /**
+     * Returns the cell of the specified column parsed as a {@code long}, see {@link SkCsvRowView#getLong(int)}.
+     *
+     * @param column the column of the cell, given by a {@link SkCsvHeader}
+     * @return the content of the cell as a {@code long}
+     * @throws IndexOutOfBoundsException if the index of the column is out of range
+     * @throws NumberFormatException if the cell does not hold a {@code long}
+     * @throws NullPointerException if the specified column is null
+     */
+    public long getLong(SkCsvHeader.Column column) {
+        return getLong(column.index());
+    }
+
+    /**
+     * Returns the content of the cell at the specified index parsed as a {@code double}, read in place.
+     * The cell is parsed as by {@link Double#parseDouble(String)}. Plain decimals of up to 15 digits are parsed without
+     * building any String.
+     *
+     * @param index the index of the cell
+     * @return the content of the cell as a {@code double}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NumberFormatException if the cell does not hold a {@code double}
+     */
+    public double getDouble(int index) {
+        return CellParser.parseDouble(get(index));
+    }
+
+    /**
+     * Returns the cell of the specified column parsed as a {@code double}, see {@link SkCsvRowView#getDouble(int)}.
+     *
+     * @param column the column of the cell, given by a {@link SkCsvHeader}
+     * @return the content of the cell as a {@code double}
+     * @throws IndexOutOfBoundsException if the index of the column is out of range
+     * @throws NumberFormatException if the cell does not hold a {@code double}
+     * @throws NullPointerException if the specified column is null
+     */
+    public double getDouble(SkCsvHeader.Column column) {
+        return getDouble(column.index());
+    }
+
+    /**
+     * Returns the content of the cell at the specified index parsed as a {@code boolean}, read in place.
+     * As with {@link Boolean#parseBoolean(String)}, the cell is {@code true} if it holds {@code "true"}, ignoring case.
+     *
+     * @param index the index of the cell
+     * @return the content of the cell as a {@code boolean}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean getBoolean(int index) {
+        return CellParser.parseBoolean(get(index));
+    }
+
+    /**
+     * Returns the cell of the specified column parsed as a {@code boolean}, see {@link SkCsvRowView#getBoolean(int)}.
+     *
+     * @param column the column of the cell, given by a {@link SkCsvHeader}
+     * @return the content of the cell as a {@code boolean}
+     * @throws IndexOutOfBoundsException if the index of the column is out of range
+     * @throws NullPointerException if the specified column is null
+     */
+    public boolean getBoolean(SkCsvHeader.Column column) {
+        return getBoolean(column.index());
+    }
+
+    /**
+     * Returns the content of the cell at the specified index parsed as an epoch day, read in place.
+     * The cell is an ISO date, such as {@code 2024-12-31}, parsed as by {@link java.time.LocalDate#parse(CharSequence)}
+     * and converted to the number of days since {@code 1970-01-01}. Dates with a four-digit year are parsed without
+     * building any object.
+     *
+     * @param index the index of the cell
+     * @return the content of the cell as an epoch day
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws java.time.format.DateTimeParseException if the cell does not hold an ISO date
+     */
+    public long getEpochDay(int index) {
+        return CellParser.parseEpochDay(get(index));
+    }
+
+    /**
+     * Returns the cell of the specified column parsed as an epoch day, see {@link SkCsvRowView#getEpochDay(int)}.
+     *
+     * @param column the column of the cell, given by a {@link SkCsvHeader}
+     * @return the content of the cell as an epoch day
+     * @throws IndexOutOfBoundsException if the index of the column is out of range
+     * @throws java.time.format.DateTimeParseException if the cell does not hold an ISO date
+     * @throws NullPointerException if the specified column is null
+     */
+    public long getEpochDay(SkCsvHeader.Column column) {
+        return getEpochDay(column.index());
+    }
+
+    /**
+     * Returns a copy of the row, which remains valid after the view.
+     *
+     * @return a new {@code SkCsvRow} holding the cells of the row
+     */
+    public SkCsvRow toRow() {
+        if (row != null) return new SkCsvRow(row, row.size());
+        return formatter.recordToRow();
+    }
+
+    /**
+     * Returns the string representation of the row, as {@link SkCsvRow#toString()} does.
+     *
+     * @return the string representation of the row
+     */
+    @Override
+    public String toString() {
+        return toRow().toString();
+    }
+
+}
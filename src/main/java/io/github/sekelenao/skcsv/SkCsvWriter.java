@@ -0,0 +1,428 @@
+package io.github.sekelenao.skcsv;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Writer of CSV rows to a character or byte sink, formatting each row as it is written.
+ *
+ * <p>Rows are written one at a time, with {@link SkCsvWriter#writeRow(SkCsvRow)} and
+ * {@link SkCsvWriter#writeRow(String...)}, or one cell at a time, with {@link SkCsvWriter#writeCell(String)} followed
+ * by {@link SkCsvWriter#endRow()}. Nothing but the buffer of the sink is kept in memory, so that any number of rows
+ * can be written in constant memory. The cells are quoted and escaped as by {@link SkCsv#export(Path, OpenOption...)},
+ * and each row ends with the line separator of the system.
+ *
+ * <p>Instances of this class hold an open sink and must be closed after use. Closing a writer ends the row being
+ * written, if any, and closes its sink.
+ *
+ * <p>The writers opened by {@code openAsync} write their file on a dedicated thread: the rows are formatted into one
+ * buffer while the other one is written, so that formatting and writing overlap. The {@link SkCsvWriter#completion()}
+ * future of a writer tells when its rows have all been written, or the error that prevented it.
+ */
+public final class SkCsvWriter implements Closeable, Flushable {
+
+    /**
+     * Number of rows formatted by each task of a parallel write.
+     */
+    private static final int BLOCK_ROWS = 1 << 12;
+
+    /**
+     * Number of blocks formatted ahead of the writing thread for each thread of the pool of a parallel write.
+     */
+    private static final int BLOCKS_PER_THREAD = 2;
+
+    private final Writer writer;
+
+    private final SkCsvConfig config;
+
+    private final CsvFormatter formatter;
+
+    private final char delimiter;
+
+    private final String lineSeparator = System.lineSeparator();
+
+    /**
+     * Whether a cell of the current row has been written.
+     */
+    private boolean inRow;
+
+    private boolean closed;
+
+    /**
+     * Whether the sink is written on a separate thread, which completes the completion future.
+     */
+    private final boolean async;
+
+    private final CompletableFuture<Void> completion;
+
+    private SkCsvWriter(Writer writer, SkCsvConfig config) {
+        this(writer, config, null);
+    }
+
+    private SkCsvWriter(Writer writer, SkCsvConfig config, AsyncChannel channel) {
+        this.writer = writer;
+        this.config = config;
+        this.formatter = new CsvFormatter(config);
+        this.delimiter = config.delimiter();
+        this.async = channel != null;
+        this.completion = async ? channel.completion() : new CompletableFuture<>();
+    }
+
+    /**
+     * Opens a writer on the specified character stream using the given configuration.
+     * The character stream is written through a buffer, there is no need to wrap it in a buffered writer.
+     *
+     * @param writer the character stream to write the rows to
+     * @param config the configuration to use for formatting
+     * @return a writer of rows to the character stream, closing it when closed
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvWriter open(Writer writer, SkCsvConfig config) {
+        SkAssertions.requireNonNulls(writer, config);
+        var buffered = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+        return new SkCsvWriter(buffered, config);
+    }
+
+    /**
+     * Opens a writer on the specified byte stream using the given configuration and charset.
+     * Chars that cannot be encoded in the given charset are reported as an error while writing.
+     *
+     * @param stream the byte stream to write the rows to
+     * @param config the configuration to use for formatting
+     * @param charset the charset to use for encoding the text
+     * @return a writer of rows to the byte stream, closing it when closed
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvWriter open(OutputStream stream, SkCsvConfig config, Charset charset) {
+        SkAssertions.requireNonNulls(stream, config, charset);
+        return open(new OutputStreamWriter(stream, charset.newEncoder()), config);
+    }
+
+    /**
+     * Opens a writer on the specified file using the given configuration, charset and open options.
+     *
+     * <p>For the {@code UTF-8}, {@code US-ASCII} and {@code ISO-8859-1} charsets, the text is encoded straight into
+     * large direct buffers, the chars encoded as a single byte being copied without any charset encoder, and written
+     * to the file by gathering writes.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for formatting
+     * @param charset the charset to use for encoding the text
+     * @param openOptions the options specifying how the file is opened
+     * @return a writer of rows to the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvWriter open(Path path, SkCsvConfig config, Charset charset, OpenOption... openOptions)
+            throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset, openOptions);
+        var writer = ChannelWriter.supports(charset)
+                ? ChannelWriter.open(path, charset, openOptions)
+                : Files.newBufferedWriter(path, charset, openOptions);
+        return new SkCsvWriter(writer, config);
+    }
+
+    /**
+     * Opens a writer on the specified file, compressed as it is written, using the given configuration, charset and
+     * open options. No temporary file is written, and the compressed data is only complete once the writer has been
+     * closed.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for formatting
+     * @param charset the charset to use for encoding the text
+     * @param compression the compression of the file
+     * @param openOptions the options specifying how the file is opened
+     * @return a writer of rows to the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws NullPointerException if any of the specified arguments is null
+     * @see SkCsvCompression#of(Path)
+     */
+    public static SkCsvWriter open(Path path, SkCsvConfig config, Charset charset, SkCsvCompression compression,
+                                   OpenOption... openOptions) throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset, compression, openOptions);
+        if (compression == SkCsvCompression.NONE) return open(path, config, charset, openOptions);
+        var file = Files.newOutputStream(path, openOptions);
+        try {
+            return open(compression.compress(file), config, charset);
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a writer on the specified file using the default configuration {@link SkCsvConfig#SEMICOLON SEMICOLON},
+     * the default charset and the given open options.
+     *
+     * @param path the path to the file
+     * @param openOptions the options specifying how the file is opened
+     * @return a writer of rows to the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvWriter open(Path path, OpenOption... openOptions) throws IOException {
+        SkAssertions.requireNonNulls(path, openOptions);
+        return open(path, SkCsvConfig.SEMICOLON, Charset.defaultCharset(), openOptions);
+    }
+
+    // Opens a writer of rows encoded into the asynchronous channel
+    static SkCsvWriter async(AsyncChannel channel, SkCsvConfig config, Charset charset) {
+        var writer = ChannelWriter.supports(charset)
+                ? ChannelWriter.of(channel, charset)
+                : new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), charset.newEncoder()));
+        return new SkCsvWriter(writer, config, channel);
+    }
+
+    /**
+     * Opens a writer on the specified file using the given configuration, charset and open options, the file being
+     * written on a separate thread.
+     *
+     * <p>The rows are formatted and encoded on the calling thread into one buffer, while a dedicated thread writes the
+     * other one to the file, so that formatting and writing overlap. When both buffers are waiting to be written, the
+     * calling thread waits for one of them. An error while writing the file is reported by the
+     * {@link SkCsvWriter#completion()} future as soon as it occurs, and thrown by the next writing method that hands a
+     * buffer to the writing thread, as well as by {@link SkCsvWriter#close()}.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for formatting
+     * @param charset the charset to use for encoding the text
+     * @param openOptions the options specifying how the file is opened
+     * @return a writer of rows to the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws NullPointerException if any of the specified arguments is null
+     */
+    public static SkCsvWriter openAsync(Path path, SkCsvConfig config, Charset charset, OpenOption... openOptions)
+            throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset, openOptions);
+        return async(AsyncChannel.of(ChannelWriter.openChannel(path, openOptions)), config, charset);
+    }
+
+    /**
+     * Opens a writer on the specified file, compressed as it is written, using the given configuration, charset and
+     * open options, the file being compressed and written on a separate thread.
+     * See {@link SkCsvWriter#openAsync(Path, SkCsvConfig, Charset, OpenOption...)} for the details.
+     *
+     * @param path the path to the file
+     * @param config the configuration to use for formatting
+     * @param charset the charset to use for encoding the text
+     * @param compression the compression of the file
+     * @param openOptions the options specifying how the file is opened
+     * @return a writer of rows to the file
+     * @throws IOException if an I/O error occurs while opening the file
+     * @throws NullPointerException if any of the specified arguments is null
+     * @see SkCsvCompression#of(Path)
+     */
+    public static SkCsvWriter openAsync(Path path, SkCsvConfig config, Charset charset, SkCsvCompression compression,
+                                        OpenOption... openOptions) throws IOException {
+        SkAssertions.requireNonNulls(path, config, charset, compression, openOptions);
+        if (compression == SkCsvCompression.NONE) return openAsync(path, config, charset, openOptions);
+        var file = Files.newOutputStream(path, openOptions);
+        try {
+            return async(AsyncChannel.of(Channels.newChannel(compression.compress(file))), config, charset);
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) throw new IOException("Writer closed");
+    }
+
+    /**
+     * Writes a cell at the end of the current row, starting a new row if needed.
+     *
+     * @param value the value of the cell
+     * @throws IOException if an I/O error occurs while writing, or if this writer is closed
+     * @throws NullPointerException if the specified value is null
+     */
+    public void writeCell(String value) throws IOException {
+        Objects.requireNonNull(value);
+        ensureOpen();
+        if (inRow) writer.write(delimiter);
+        formatter.writeCell(value, writer);
+        inRow = true;
+    }
+
+    /**
+     * Ends the current row. A row without any cell is written as an empty line.
+     *
+     * @throws IOException if an I/O error occurs while writing, or if this writer is closed
+     */
+    public void endRow() throws IOException {
+        ensureOpen();
+        writer.write(lineSeparator);
+        inRow = false;
+    }
+
+    private void checkNoRow() {
+        if (inRow) throw new IllegalStateException("A row is being written, it must be ended first");
+    }
+
+    /**
+     * Writes the specified row.
+     *
+     * @param row the row to write
+     * @throws IOException if an I/O error occurs while writing, or if this writer is closed
+     * @throws IllegalStateException if cells of a row have been written without ending it
+     * @throws NullPointerException if the specified row is null
+     */
+    public void writeRow(SkCsvRow row) throws IOException {
+        Objects.requireNonNull(row);
+        checkNoRow();
+        for (var value : row) {
+            writeCell(value);
+        }
+        endRow();
+    }
+
+    /**
+     * Writes a row holding the specified values.
+     *
+     * @param values the values of the cells of the row
+     * @throws IOException if an I/O error occurs while writing, or if this writer is closed
+     * @throws IllegalStateException if cells of a row have been written without ending it
+     * @throws NullPointerException if the specified array or any of its elements is null
+     */
+    public void writeRow(String... values) throws IOException {
+        SkAssertions.requireNonNulls((Object[]) Objects.requireNonNull(values));
+        checkNoRow();
+        for (var value : values) {
+            writeCell(value);
+        }
+        endRow();
+    }
+
+    // Formats a block of rows as a whole, with its own formatter, so that blocks can be formatted concurrently
+    private String formatBlock(List<SkCsvRow> rows) {
+        var blockFormatter = new CsvFormatter(config);
+        var block = new StringBuilder();
+        for (var row : rows) {
+            blockFormatter.appendRow(row, block);
+            block.append(lineSeparator);
+        }
+        return block.toString();
+    }
+
+    /*
+     * Writes the rows, formatted by blocks of contiguous rows on the pool, while this thread writes the formatted blocks
+     * in their original order. At most BLOCKS_PER_THREAD blocks per thread of the pool are formatted ahead of the
+     * writing, so that memory stays bounded whatever the number of rows. The rows must not be modified meanwhile.
+     */
+    void writeRows(List<SkCsvRow> rows, ForkJoinPool pool) throws IOException {
+        checkNoRow();
+        ensureOpen();
+        var ahead = Math.max(1, pool.getParallelism() * BLOCKS_PER_THREAD);
+        var tasks = new ArrayDeque<ForkJoinTask<String>>(ahead);
+        var next = 0;
+        try {
+            while (next < rows.size() || !tasks.isEmpty()) {
+                while (next < rows.size() && tasks.size() < ahead) {
+                    var block = rows.subList(next, Math.min(rows.size(), next + BLOCK_ROWS));
+                    tasks.add(pool.submit(() -> formatBlock(block)));
+                    next += block.size();
+                }
+                writer.write(tasks.remove().join());
+            }
+        } finally {
+            tasks.forEach(task -> task.cancel(false));
+        }
+    }
+
+    /**
+     * Flushes the rows written so far to the sink.
+     *
+     * @throws IOException if an I/O error occurs while flushing, or if this writer is closed
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        writer.flush();
+    }
+
+    /**
+     * Returns a future completed once this writer has been closed and its rows have all been written to its sink.
+     *
+     * <p>The future is completed exceptionally with the {@link IOException} that prevented the rows from being
+     * written. For the writers opened by {@code openAsync}, it is completed by the writing thread, exceptionally as soon
+     * as the error occurs, even before this writer is closed.
+     *
+     * @return a future completed once the rows of this writer have been written
+     */
+    public CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    /*
+     * Ends the row being written, if any, and closes the sink, without waiting for an asynchronous sink to be written.
+     * Returns the completion future.
+     */
+    CompletableFuture<Void> closeAsync() throws IOException {
+        if (closed) return completion;
+        try (writer) {
+            if (inRow) endRow();
+        } catch (IOException | RuntimeException | Error e) {
+            if (!async) completion.completeExceptionally(e);
+            throw e;
+        } finally {
+            closed = true;
+        }
+        if (!async) completion.complete(null);
+        return completion;
+    }
+
+    /**
+     * Ends the row being written, if any, and closes this writer and its sink.
+     * Closing an already closed writer has no effect.
+     *
+     * <p>For the writers opened by {@code openAsync}, this method waits for the rows to be written and the file to be
+     * closed by the writing thread.
+     *
+     * @throws IOException if an I/O error occurs while writing or closing
+     */
+    @Override
+    public void close() throws IOException {
+        var future = closeAsync();
+        if (async) await(future);
+    }
+
+    /**
+     * Waits for the specified completion future, throwing its error.
+     *
+     * @param completion the completion future of a writer
+     * @throws IOException if the future was completed by an I/O error, or if the thread is interrupted
+     */
+    private static void await(CompletableFuture<Void> completion) throws IOException {
+        try {
+            completion.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof IOException exception) throw exception;
+            if (cause instanceof RuntimeException exception) throw exception;
+            if (cause instanceof Error error) throw error;
+            throw new IOException(cause);
+        }
+    }
+
+}
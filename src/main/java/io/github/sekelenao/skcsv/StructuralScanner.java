@@ -0,0 +1,133 @@
+package io.github.sekelenao.skcsv;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/*
+ * Finds the structural bytes of a CSV text 64 bytes at a time, in the style of simdjson: the parser walks the returned
+ * bitmaps instead of comparing every byte against the quote, the delimiter and the line breaks.
+ *
+ * Structural bytes are the quote, the delimiter, and every control byte up to '\r', which covers the line breaks and
+ * the chars forbidden outside quotes. The bytes between two structural bytes can be copied in bulk.
+ */
+abstract class StructuralScanner {
+
+    static final int BLOCK_SIZE = Long.SIZE;
+
+    private static final int CONTROL_LIMIT = '\r' + 1;
+
+    // Factory of the Vector API implementation, or null when the jdk.incubator.vector module is not resolved
+    private static final MethodHandle VECTOR_FACTORY = vectorFactory();
+
+    final byte quote;
+
+    final byte delimiter;
+
+    StructuralScanner(int quote, int delimiter) {
+        this.quote = (byte) quote;
+        this.delimiter = (byte) delimiter;
+    }
+
+    // The Vector API implementation is compiled separately, with the incubator module, and only looked up by name
+    private static MethodHandle vectorFactory() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return null;
+        try {
+            var type = Class.forName("io.github.sekelenao.skcsv.VectorStructuralScanner");
+            var factoryType = MethodType.methodType(StructuralScanner.class, int.class, int.class);
+            return MethodHandles.lookup().findStatic(type, "create", factoryType);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    // Uses the Vector API when the jdk.incubator.vector module is resolved, a portable implementation otherwise
+    static StructuralScanner of(int quote, int delimiter) {
+        if (VECTOR_FACTORY != null) {
+            try {
+                var scanner = (StructuralScanner) VECTOR_FACTORY.invokeExact(quote, delimiter);
+                if (scanner != null) return scanner;
+            } catch (LinkageError e) {
+                // The module is not usable, the portable implementation is used instead
+            } catch (Throwable e) {
+                throw new AssertionError(e);
+            }
+        }
+        return new SwarScanner(quote, delimiter);
+    }
+
+    static StructuralScanner portable(int quote, int delimiter) {
+        return new SwarScanner(quote, delimiter);
+    }
+
+    final boolean isStructural(byte b) {
+        return b == quote || b == delimiter || (b & 0xFF) < CONTROL_LIMIT;
+    }
+
+    /*
+     * Returns the bitmap of the structural bytes in [from, to), bit i standing for the byte at from + i.
+     * The range holds at most BLOCK_SIZE bytes.
+     */
+    final long scan(ByteBuffer bytes, int from, int to) {
+        if (to - from == BLOCK_SIZE) return scanBlock(bytes, from);
+        var mask = 0L;
+        for (int i = from; i < to; i++) {
+            if (isStructural(bytes.get(i))) mask |= 1L << (i - from);
+        }
+        return mask;
+    }
+
+    abstract long scanBlock(ByteBuffer bytes, int from);
+
+    /*
+     * Portable implementation, comparing 8 bytes at a time within a long ("SIMD within a register").
+     */
+    private static final class SwarScanner extends StructuralScanner {
+
+        private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+        private static final long HIGH_BITS = 0x8080808080808080L;
+
+        private static final long ONES = 0x0101010101010101L;
+
+        // Gathers the high bit of each byte into the 8 lowest bits, byte i giving bit i
+        private static final long GATHER = 0x0102040810204080L;
+
+        private final long quotes;
+
+        private final long delimiters;
+
+        private SwarScanner(int quote, int delimiter) {
+            super(quote, delimiter);
+            this.quotes = (quote & 0xFF) * ONES;
+            this.delimiters = (delimiter & 0xFF) * ONES;
+        }
+
+        // High bit of each byte set if the byte is zero
+        private static long zeros(long word) {
+            return ~(((word & LOW_BITS) + LOW_BITS) | word | LOW_BITS);
+        }
+
+        // High bit of each byte set if the byte is below CONTROL_LIMIT
+        private static long controls(long word) {
+            return ~(((word & LOW_BITS) + (0x80 - CONTROL_LIMIT) * ONES) | word) & HIGH_BITS;
+        }
+
+        @Override
+        long scanBlock(ByteBuffer bytes, int from) {
+            var littleEndian = bytes.order() == ByteOrder.LITTLE_ENDIAN;
+            var mask = 0L;
+            for (int i = 0; i < BLOCK_SIZE; i += Long.BYTES) {
+                var word = bytes.getLong(from + i);
+                if (!littleEndian) word = Long.reverseBytes(word);
+                var found = zeros(word ^ quotes) | zeros(word ^ delimiters) | controls(word);
+                mask |= (((found >>> 7) * GATHER) >>> 56) << i;
+            }
+            return mask;
+        }
+
+    }
+
+}
@@ -0,0 +1,146 @@
+package io.github.sekelenao.skcsv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class SkCsvCompressionTest {
+
+    @TempDir
+    Path directory;
+
+    private static SkCsv largeCsv() {
+        var csv = new SkCsv();
+        for (int i = 0; i < 50_000; i++) {
+            csv.add(new SkCsvRow(String.valueOf(i), "été;" + i, "multi\nline", ""));
+        }
+        return csv;
+    }
+
+    @Nested
+    final class RoundTrip {
+
+        @Test
+        @DisplayName("Compressed files are exported and read back")
+        void roundTrip() throws IOException {
+            var csv = largeCsv();
+            for (var compression : SkCsvCompression.values()) {
+                var path = directory.resolve("export-" + compression);
+                csv.export(path, StandardCharsets.UTF_8, compression);
+                assertEquals(csv, SkCsv.from(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, compression));
+            }
+            var utf16 = directory.resolve("export.csv.gz");
+            csv.export(utf16, StandardCharsets.UTF_16, SkCsvCompression.GZIP);
+            assertEquals(csv, SkCsv.from(utf16, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_16, SkCsvCompression.GZIP));
+        }
+
+        @Test
+        @DisplayName("GZIP export is a standard GZIP file")
+        void standardGzip() throws IOException {
+            var csv = new SkCsv(new SkCsvRow("a", "b"), new SkCsvRow("c", "d;e"));
+            var path = directory.resolve("standard.csv.gz");
+            csv.export(path, StandardCharsets.UTF_8, SkCsvCompression.of(path));
+            try (var stream = new GZIPInputStream(Files.newInputStream(path))) {
+                var text = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+                assertEquals(csv, SkCsv.from(text, SkCsvConfig.SEMICOLON));
+            }
+        }
+
+        @Test
+        @DisplayName("Compressed streams can be closed early")
+        void closedEarly() throws IOException {
+            var path = directory.resolve("early.csv.zz");
+            largeCsv().export(path, StandardCharsets.ISO_8859_1, SkCsvCompression.DEFLATE);
+            try (var rows = SkCsv.streamFrom(path, SkCsvConfig.SEMICOLON, StandardCharsets.ISO_8859_1, SkCsvCompression.DEFLATE)) {
+                assertEquals(new SkCsvRow("0", "été;0", "multi\nline", ""), rows.findFirst().orElseThrow());
+            }
+        }
+
+    }
+
+    @Nested
+    final class Assertions {
+
+        @Test
+        @DisplayName("Compression of a file extension")
+        void extensions() {
+            assertAll("Extensions",
+                    () -> assertEquals(SkCsvCompression.GZIP, SkCsvCompression.of(Path.of("data", "archive.CSV.GZ"))),
+                    () -> assertEquals(SkCsvCompression.DEFLATE, SkCsvCompression.of(Path.of("archive.csv.zz"))),
+                    () -> assertEquals(SkCsvCompression.DEFLATE, SkCsvCompression.of(Path.of("archive.deflate"))),
+                    () -> assertEquals(SkCsvCompression.NONE, SkCsvCompression.of(Path.of("archive.csv"))),
+                    () -> assertEquals(SkCsvCompression.NONE, SkCsvCompression.of(Path.of("/"))),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvCompression.of(null))
+            );
+        }
+
+        @Test
+        @DisplayName("Malformed compressed files")
+        void malformed() throws IOException {
+            var plain = Files.writeString(directory.resolve("plain.csv.gz"), "a;b\n");
+            var truncated = directory.resolve("truncated.csv.zz");
+            largeCsv().export(truncated, StandardCharsets.UTF_8, SkCsvCompression.DEFLATE);
+            var bytes = Files.readAllBytes(truncated);
+            Files.write(truncated, Arrays.copyOf(bytes, bytes.length / 2));
+            assertAll("Malformed",
+                    () -> assertThrows(IOException.class, () -> SkCsv.from(plain, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, SkCsvCompression.GZIP)),
+                    () -> assertThrows(IOException.class, () -> SkCsv.from(truncated, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, SkCsvCompression.DEFLATE)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsv.from(plain, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, null))
+            );
+        }
+
+        @Test
+        @DisplayName("Errors of a truncated file are thrown by every read")
+        void truncatedRereads() throws IOException {
+            var path = directory.resolve("truncated.csv.gz");
+            largeCsv().export(path, StandardCharsets.UTF_8, SkCsvCompression.GZIP);
+            var bytes = Files.readAllBytes(path);
+            Files.write(path, Arrays.copyOf(bytes, bytes.length / 2));
+            try (var stream = PrefetchInputStream.of(SkCsvCompression.GZIP.decompress(Files.newInputStream(path)))) {
+                var chunk = new byte[1 << 16];
+                var thrown = assertThrows(IOException.class, () -> {
+                    while (stream.read(chunk) >= 0) {/*consume*/}
+                });
+                assertAll("Truncated",
+                        () -> assertSame(thrown, assertThrows(IOException.class, () -> stream.read(chunk))),
+                        () -> assertSame(thrown, assertThrows(IOException.class, stream::read))
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Unchecked errors of the source are thrown by the prefetching stream")
+        void uncheckedErrors() {
+            var failing = new InputStream() {
+                @Override
+                public int read() {
+                    throw new IllegalStateException("Broken source");
+                }
+            };
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                try (var stream = PrefetchInputStream.of(failing)) {
+                    var exception = assertThrows(IllegalStateException.class, stream::read);
+                    assertAll("Unchecked errors",
+                            () -> assertEquals("Broken source", exception.getMessage()),
+                            () -> assertSame(exception, assertThrows(IllegalStateException.class, stream::read)),
+                            () -> assertSame(exception, assertThrows(IllegalStateException.class, stream::available))
+                    );
+                }
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,121 @@
+package io.github.sekelenao.skcsv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class SkCsvFollowerTest {
+
+    @TempDir
+    Path directory;
+
+    private static void append(Path path, String text) throws IOException {
+        Files.writeString(path, text, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    @Nested
+    final class Following {
+
+        @Test
+        @DisplayName("Records are given once their terminator is appended")
+        void appended() throws IOException {
+            var path = Files.createFile(directory.resolve("followed.csv"));
+            var rows = new ArrayList<SkCsvRow>();
+            try (var follower = SkCsvFollower.open(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)) {
+                var empty = follower.poll(rows::add);
+                append(path, "a;b\nc;\"d");
+                var first = follower.poll(rows::add);
+                var firstOffset = follower.offset();
+                append(path, "\né\";e\r");
+                var second = follower.poll(rows::add);
+                append(path, "\nf;g");
+                var third = follower.poll(rows::add);
+                var thirdOffset = follower.offset();
+                append(path, "\n");
+                var fourth = follower.poll(rows::add);
+                assertAll("Appended",
+                        () -> assertEquals(0, empty),
+                        () -> assertEquals(1, first),
+                        () -> assertEquals(4, firstOffset),
+                        () -> assertEquals(1, second),
+                        () -> assertEquals(0, third),
+                        () -> assertEquals(15, thirdOffset),
+                        () -> assertEquals(1, fourth),
+                        () -> assertEquals(Files.size(path), follower.offset()),
+                        () -> assertEquals(List.of(
+                                new SkCsvRow("a", "b"), new SkCsvRow("c", "d\né", "e"), new SkCsvRow("f", "g")
+                        ), rows)
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Truncated files are followed again")
+        void truncated() throws IOException {
+            var path = Files.writeString(directory.resolve("rotated.csv"), "a;b\r\nc;\"d", StandardCharsets.UTF_8);
+            var rows = new ArrayList<SkCsvRow>();
+            try (var follower = SkCsvFollower.open(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)) {
+                follower.poll(rows::add);
+                Files.writeString(path, "a;b\r\nc;", StandardCharsets.UTF_8);
+                follower.poll(rows::add);
+                append(path, "d\n");
+                follower.poll(rows::add);
+                Files.writeString(path, "x\n", StandardCharsets.UTF_8);
+                follower.poll(rows::add);
+                assertAll("Truncated",
+                        () -> assertEquals(List.of(
+                                new SkCsvRow("a", "b"), new SkCsvRow("c", "d"), new SkCsvRow("x")
+                        ), rows),
+                        () -> assertEquals(2, follower.offset())
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Following resumes from a checkpoint")
+        void checkpoint() throws IOException {
+            var path = Files.writeString(directory.resolve("resumed.csv"), "a\rb;\"c", StandardCharsets.UTF_8);
+            SkCsvCheckpoint checkpoint;
+            try (var follower = SkCsvFollower.open(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)) {
+                follower.poll(row -> {});
+                checkpoint = follower.checkpoint();
+            }
+            append(path, "\n\";d\n");
+            var rows = new ArrayList<SkCsvRow>();
+            try (var follower = SkCsvFollower.open(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, checkpoint)) {
+                follower.poll(rows::add);
+                assertAll("Checkpoint",
+                        () -> assertEquals(new SkCsvCheckpoint(2, 1, true), checkpoint),
+                        () -> assertEquals(List.of(new SkCsvRow("b", "c\n", "d")), rows),
+                        () -> assertEquals(new SkCsvCheckpoint(Files.size(path), 2, false), follower.checkpoint())
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Follower assertions")
+        void assertions() throws IOException {
+            var path = Files.createFile(directory.resolve("assertions.csv"));
+            try (var follower = SkCsvFollower.open(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)) {
+                assertAll("Follower assertions",
+                        () -> assertThrows(NullPointerException.class, () -> follower.poll(null)),
+                        () -> assertThrows(NullPointerException.class, () -> SkCsvFollower.open(null, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)),
+                        () -> assertThrows(IllegalArgumentException.class, () -> SkCsvFollower.open(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_16))
+                );
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,114 @@
+package io.github.sekelenao.skcsv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class SkCsvHeaderTest {
+
+    private static final String TEXT = "id;name;amount\n1;\"Ann\nLee\";10\n2;Bob;\n3;Éloïse;5\n";
+
+    @Nested
+    final class Columns {
+
+        @Test
+        @DisplayName("Names are resolved to column handles")
+        void handles() {
+            var header = SkCsvHeader.of(new SkCsvRow("id", "name", "id", ""));
+            var name = header.column("name");
+            var row = new SkCsvRow("7", "Ann", "8", "x");
+            assertAll("Handles",
+                    () -> assertEquals(4, header.size()),
+                    () -> assertEquals(new SkCsvHeader.Column("name", 1), name),
+                    () -> assertEquals(0, header.indexOf("id")),
+                    () -> assertEquals(3, header.indexOf("")),
+                    () -> assertEquals(-1, header.indexOf("missing")),
+                    () -> assertTrue(header.contains("id")),
+                    () -> assertFalse(header.contains("missing")),
+                    () -> assertEquals(new SkCsvHeader.Column("id", 2), header.column(2)),
+                    () -> assertEquals("Ann", row.get(name)),
+                    () -> assertEquals(List.of("id", "name", "id", ""), header.columns().stream().map(SkCsvHeader.Column::name).toList()),
+                    () -> assertEquals(new SkCsvRow("id", "name", "id", ""), header.toRow()),
+                    () -> assertEquals(SkCsvHeader.of("id", "name", "id", ""), header),
+                    () -> assertEquals(SkCsvHeader.of("id", "name", "id", "").hashCode(), header.hashCode()),
+                    () -> assertEquals("id;name;id;", header.toString())
+            );
+        }
+
+        @Test
+        @DisplayName("Header assertions")
+        void assertions() {
+            var header = SkCsvHeader.of("a");
+            assertAll("Header assertions",
+                    () -> assertThrows(IllegalArgumentException.class, () -> header.column("b")),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> header.column(1)),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> new SkCsvRow("x").get(new SkCsvHeader.Column("b", 1))),
+                    () -> assertThrows(IllegalArgumentException.class, () -> new SkCsvHeader.Column("b", -1)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvHeader.of("a", null)),
+                    () -> assertThrows(NullPointerException.class, () -> header.indexOf(null)),
+                    () -> assertThrows(UnsupportedOperationException.class, () -> header.columns().clear())
+            );
+        }
+
+    }
+
+    @Nested
+    final class Reading {
+
+        @Test
+        @DisplayName("Header is not returned as a row")
+        void notARow() throws IOException {
+            try (var reader = SkCsvReader.open(TEXT, SkCsvConfig.SEMICOLON).withHeader()) {
+                var header = reader.header();
+                var name = header.column("name");
+                var names = new ArrayList<String>();
+                reader.forEachRemaining(row -> names.add(row.get(name)));
+                assertAll("Not a row",
+                        () -> assertEquals(SkCsvHeader.of("id", "name", "amount"), header),
+                        () -> assertEquals(List.of("Ann\nLee", "Bob", "Éloïse"), names),
+                        () -> assertSame(header, reader.header())
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Header of projected and filtered rows")
+        void projected() throws IOException {
+            try (var reader = SkCsvReader.open(TEXT, SkCsvConfig.SEMICOLON)
+                    .withHeader()
+                    .select("amount", "name")
+                    .filter("id", id -> !id.equals("2"))
+                    .limit(1)) {
+                var amounts = new ArrayList<String>();
+                reader.forEachView(view -> amounts.add(view.getString(reader.header().column("amount"))));
+                assertAll("Projected",
+                        () -> assertEquals(SkCsvHeader.of("amount", "name"), reader.header()),
+                        () -> assertEquals(List.of("10"), amounts)
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Header of an empty text")
+        void empty() throws IOException {
+            try (var reader = SkCsvReader.open("", SkCsvConfig.SEMICOLON).withHeader();
+                 var headless = SkCsvReader.open(TEXT, SkCsvConfig.SEMICOLON)) {
+                headless.next();
+                assertAll("Empty",
+                        () -> assertEquals(0, reader.header().size()),
+                        () -> assertFalse(reader.hasNext()),
+                        () -> assertThrows(IllegalStateException.class, headless::header),
+                        () -> assertThrows(IllegalStateException.class, headless::withHeader)
+                );
+            }
+        }
+
+    }
+
+}
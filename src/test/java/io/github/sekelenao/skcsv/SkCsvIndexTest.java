@@ -0,0 +1,133 @@
+package io.github.sekelenao.skcsv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class SkCsvIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private Path writeFile() throws IOException {
+        var text = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            text.append(i).append(";\"line\n").append(i).append("\";é").append(i % 3 == 0 ? "\r" : "\r\n");
+        }
+        return Files.writeString(directory.resolve("indexed.csv"), text, StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    final class RandomAccess {
+
+        @Test
+        @DisplayName("Rows are fetched through the index")
+        void rows() throws IOException {
+            var path = writeFile();
+            var expected = SkCsv.from(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8).stream().toList();
+            var index = SkCsvIndex.build(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, 7);
+            for (int i = 0; i < expected.size(); i += 13) {
+                assertEquals(expected.get(i), index.row(path, i));
+            }
+            assertAll("Rows",
+                    () -> assertEquals(500, index.size()),
+                    () -> assertEquals(expected.subList(495, 500), index.rows(path, 495, 10)),
+                    () -> assertEquals(expected.subList(100, 120), index.rows(path, 100, 20)),
+                    () -> assertEquals(List.of(), index.rows(path, 3, 0)),
+                    () -> assertEquals(new SkCsvCheckpoint(0, 0, false), index.checkpoint(6)),
+                    () -> assertEquals(14, index.checkpoint(20).record()),
+                    () -> assertEquals(expected.get(499), index.row(path, 499))
+            );
+        }
+
+        @Test
+        @DisplayName("Saved index gives the same rows")
+        void saved() throws IOException {
+            var path = writeFile();
+            var saved = directory.resolve("indexed.csv.idx");
+            var index = SkCsvIndex.build(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8);
+            index.save(saved);
+            var loaded = SkCsvIndex.load(saved);
+            assertAll("Saved",
+                    () -> assertEquals(index.size(), loaded.size()),
+                    () -> assertEquals(index.checkpoint(321), loaded.checkpoint(321)),
+                    () -> assertEquals(index.rows(path, 250, 3), loaded.rows(path, 250, 3)),
+                    () -> assertThrows(IOException.class, () -> SkCsvIndex.load(path))
+            );
+        }
+
+    }
+
+    @Nested
+    final class Assertions {
+
+        @Test
+        @DisplayName("Index assertions")
+        void assertions() throws IOException {
+            var path = writeFile();
+            var index = SkCsvIndex.build(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, 10);
+            var changed = Files.writeString(directory.resolve("changed.csv"), "a\n", StandardCharsets.UTF_8);
+            var changedIndex = SkCsvIndex.build(changed, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8);
+            Files.writeString(changed, "b\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            assertAll("Index assertions",
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> index.row(path, 500)),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> index.checkpoint(-1)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> index.rows(path, 0, -1)),
+                    () -> assertThrows(IllegalStateException.class, () -> changedIndex.row(changed, 0)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> SkCsvIndex.build(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, 0)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> SkCsvIndex.build(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_16)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvIndex.build(null, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8))
+            );
+        }
+
+        @Test
+        @DisplayName("Corrupt saved indexes")
+        void corrupt() throws IOException {
+            var path = writeFile();
+            var saved = directory.resolve("indexed.csv.idx");
+            SkCsvIndex.build(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, 10).save(saved);
+            var bytes = Files.readAllBytes(saved);
+            // Header: magic (4), version (1), delimiter and quote (2 + 2), "UTF-8" (2 + 5), file size (8), records (8)
+            var zeroInterval = ByteBuffer.wrap(bytes.clone()).putInt(32, 0).array();
+            var negativeCount = ByteBuffer.wrap(bytes.clone()).putInt(36, -1).array();
+            var wrongCount = ByteBuffer.wrap(bytes.clone()).putInt(36, 50).array();
+            var negativeRecords = ByteBuffer.wrap(bytes.clone()).putLong(24, -1).array();
+            var unknownCharset = ByteBuffer.wrap(bytes.clone()).put(11, (byte) 'X').array();
+            var illegalCharset = ByteBuffer.wrap(bytes.clone()).put(11, (byte) '?').array();
+            var sameChars = ByteBuffer.wrap(bytes.clone()).putChar(7, ';').array();
+            var lineBreak = ByteBuffer.wrap(bytes.clone()).putChar(5, '\n').array();
+            var nullChar = ByteBuffer.wrap(bytes.clone()).putChar(5, '\0').array();
+            var oversized = ByteBuffer.allocate(40).put(Arrays.copyOf(bytes, 24))
+                    .putLong(200_000_000).putInt(1).putInt(200_000_001).array();
+            var truncated = Arrays.copyOf(bytes, bytes.length - 3);
+            assertAll("Corrupt",
+                    () -> assertEquals(500, SkCsvIndex.load(saved).size()),
+                    () -> assertThrows(IOException.class, () -> SkCsvIndex.load(Files.write(saved, zeroInterval))),
+                    () -> assertThrows(IOException.class, () -> SkCsvIndex.load(Files.write(saved, negativeCount))),
+                    () -> assertThrows(IOException.class, () -> SkCsvIndex.load(Files.write(saved, wrongCount))),
+                    () -> assertThrows(IOException.class, () -> SkCsvIndex.load(Files.write(saved, negativeRecords))),
+                    () -> assertThrows(IOException.class, () -> SkCsvIndex.load(Files.write(saved, unknownCharset))),
+                    () -> assertThrows(IOException.class, () -> SkCsvIndex.load(Files.write(saved, illegalCharset))),
+                    () -> assertThrows(IOException.class, () -> SkCsvIndex.load(Files.write(saved, sameChars))),
+                    () -> assertThrows(IOException.class, () -> SkCsvIndex.load(Files.write(saved, lineBreak))),
+                    () -> assertThrows(IOException.class, () -> SkCsvIndex.load(Files.write(saved, nullChar))),
+                    () -> assertThrows(IOException.class, () -> SkCsvIndex.load(Files.write(saved, oversized))),
+                    () -> assertThrows(IOException.class, () -> SkCsvIndex.load(Files.write(saved, truncated)))
+            );
+        }
+
+    }
+
+}
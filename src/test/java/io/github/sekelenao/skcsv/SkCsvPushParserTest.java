@@ -0,0 +1,196 @@
+package io.github.sekelenao.skcsv;
+
+import io.github.sekelenao.skcsv.exception.CsvParsingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class SkCsvPushParserTest {
+
+    private static final String TEXT = "a;\"b;\r\nc\";été\r\n\"\"\"quoted\"\"\";😀\nlast;line";
+
+    /*
+     * Charset of which each char is encoded as its low byte followed by padding, so that long runs of bytes do not
+     * form a whole char.
+     */
+    private static final class WideCharset extends Charset {
+
+        private static final int WIDTH = 20;
+
+        WideCharset() {
+            super("x-wide", null);
+        }
+
+        @Override
+        public boolean contains(Charset charset) {
+            return charset instanceof WideCharset;
+        }
+
+        @Override
+        public CharsetDecoder newDecoder() {
+            return new CharsetDecoder(this, 1f / WIDTH, 1) {
+                @Override
+                protected CoderResult decodeLoop(ByteBuffer in, CharBuffer out) {
+                    while (in.remaining() >= WIDTH) {
+                        if (!out.hasRemaining()) return CoderResult.OVERFLOW;
+                        out.put((char) (in.get() & 0xFF));
+                        in.position(in.position() + WIDTH - 1);
+                    }
+                    return CoderResult.UNDERFLOW;
+                }
+            };
+        }
+
+        @Override
+        public CharsetEncoder newEncoder() {
+            return new CharsetEncoder(this, WIDTH, WIDTH, new byte[WIDTH]) {
+                @Override
+                protected CoderResult encodeLoop(CharBuffer in, ByteBuffer out) {
+                    while (in.hasRemaining()) {
+                        if (out.remaining() < WIDTH) return CoderResult.OVERFLOW;
+                        out.put((byte) in.get()).put(new byte[WIDTH - 1]);
+                    }
+                    return CoderResult.UNDERFLOW;
+                }
+            };
+        }
+
+    }
+
+    private static List<SkCsvRow> feedBytes(String text, Charset charset, int seed, boolean direct) {
+        var rows = new ArrayList<SkCsvRow>();
+        var parser = SkCsvPushParser.ofBytes(SkCsvConfig.SEMICOLON, charset, rows::add);
+        var bytes = text.getBytes(charset);
+        var random = new Random(seed);
+        for (int from = 0; from < bytes.length; ) {
+            var length = Math.min(bytes.length - from, 1 + random.nextInt(7));
+            var fragment = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length + 2).position(1);
+            fragment.put(bytes, from, length).flip();
+            if (!direct) fragment.position(1);
+            parser.feed(fragment);
+            assertFalse(fragment.hasRemaining());
+            from += length;
+        }
+        parser.end();
+        return rows;
+    }
+
+    @Nested
+    final class Fragments {
+
+        @Test
+        @DisplayName("Byte fragments cut anywhere")
+        void byteFragments() {
+            var expected = SkCsv.from(TEXT, SkCsvConfig.SEMICOLON).stream().toList();
+            for (int seed = 0; seed < 20; seed++) {
+                var finalSeed = seed;
+                assertAll("Byte fragments",
+                        () -> assertEquals(expected, feedBytes(TEXT, StandardCharsets.UTF_8, finalSeed, false)),
+                        () -> assertEquals(expected, feedBytes(TEXT, StandardCharsets.UTF_8, finalSeed, true)),
+                        () -> assertEquals(expected, feedBytes(TEXT, StandardCharsets.UTF_16LE, finalSeed, false)),
+                        () -> assertEquals(expected, feedBytes(TEXT, StandardCharsets.UTF_16, finalSeed, true))
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Char fragments cut anywhere")
+        void charFragments() {
+            var rows = new ArrayList<SkCsvRow>();
+            var parser = SkCsvPushParser.ofChars(SkCsvConfig.SEMICOLON, rows::add);
+            for (int i = 0; i < TEXT.length(); i += 3) {
+                var fragment = CharBuffer.wrap(TEXT, i, Math.min(TEXT.length(), i + 3));
+                parser.feed(i % 2 == 0 ? fragment : CharBuffer.wrap(fragment.toString().toCharArray()));
+            }
+            parser.end();
+            assertEquals(SkCsv.from(TEXT, SkCsvConfig.SEMICOLON).stream().toList(), rows);
+        }
+
+        @Test
+        @DisplayName("Partial chars filling the pending bytes")
+        void pendingBytes() {
+            var charset = new WideCharset();
+            var text = "ab;cd\nef;g";
+            var bytes = text.getBytes(charset);
+            for (int length = 1; length <= 2 * WideCharset.WIDTH; length++) {
+                var rows = new ArrayList<SkCsvRow>();
+                var parser = SkCsvPushParser.ofBytes(SkCsvConfig.SEMICOLON, charset, rows::add);
+                for (int from = 0; from < bytes.length; from += length) {
+                    parser.feed(ByteBuffer.wrap(bytes, from, Math.min(length, bytes.length - from)));
+                }
+                parser.end();
+                assertEquals(List.of(new SkCsvRow("ab", "cd"), new SkCsvRow("ef", "g")), rows, "Fragments of " + length);
+            }
+        }
+
+        @Test
+        @DisplayName("Rows are given as soon as their terminator is fed")
+        void latency() {
+            var rows = new ArrayList<SkCsvRow>();
+            var parser = SkCsvPushParser.ofBytes(SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, rows::add);
+            parser.feed(ByteBuffer.wrap("a;\"b\n".getBytes(StandardCharsets.UTF_8)));
+            var afterQuotedBreak = rows.size();
+            parser.feed(ByteBuffer.wrap("c\"\r".getBytes(StandardCharsets.UTF_8)));
+            var afterTerminator = rows.size();
+            parser.feed(ByteBuffer.wrap("\nd".getBytes(StandardCharsets.UTF_8)));
+            var afterLineFeed = rows.size();
+            parser.end();
+            assertAll("Latency",
+                    () -> assertEquals(0, afterQuotedBreak),
+                    () -> assertEquals(1, afterTerminator),
+                    () -> assertEquals(1, afterLineFeed),
+                    () -> assertEquals(List.of(new SkCsvRow("a", "b\nc"), new SkCsvRow("d")), rows)
+            );
+        }
+
+    }
+
+    @Nested
+    final class Errors {
+
+        @Test
+        @DisplayName("End of text inside quotes or inside a char")
+        void endOfText() {
+            var quoted = SkCsvPushParser.ofChars(SkCsvConfig.SEMICOLON, row -> {});
+            quoted.feed(CharBuffer.wrap("a;\"b"));
+            var utf16 = SkCsvPushParser.ofBytes(SkCsvConfig.SEMICOLON, StandardCharsets.UTF_16LE, row -> {});
+            utf16.feed(ByteBuffer.wrap(new byte[]{'a', 0, 'b'}));
+            assertAll("End of text",
+                    () -> assertThrows(CsvParsingException.class, quoted::end),
+                    () -> assertThrows(UncheckedIOException.class, utf16::end)
+            );
+        }
+
+        @Test
+        @DisplayName("Push parser assertions")
+        void assertions() {
+            var bytes = SkCsvPushParser.ofBytes(SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, row -> {});
+            var chars = SkCsvPushParser.ofChars(SkCsvConfig.SEMICOLON, row -> {});
+            chars.end();
+            assertAll("Push parser assertions",
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvPushParser.ofBytes(SkCsvConfig.SEMICOLON, null, row -> {})),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvPushParser.ofChars(SkCsvConfig.SEMICOLON, null)),
+                    () -> assertThrows(NullPointerException.class, () -> bytes.feed((ByteBuffer) null)),
+                    () -> assertThrows(IllegalStateException.class, () -> bytes.feed(CharBuffer.wrap("a"))),
+                    () -> assertThrows(IllegalStateException.class, () -> chars.feed(CharBuffer.wrap("a"))),
+                    () -> assertDoesNotThrow(chars::end)
+            );
+        }
+
+    }
+
+}
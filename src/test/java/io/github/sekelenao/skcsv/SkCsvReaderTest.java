@@ -0,0 +1,586 @@
+package io.github.sekelenao.skcsv;
+
+import io.github.sekelenao.skcsv.exception.CsvParsingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class SkCsvReaderTest {
+
+    private static final Path TEMPLATE = Paths.get("src", "test", "resources", "template.csv");
+
+    private static final Path TEMP = Paths.get("src", "test", "resources", "temp_reader.csv");
+
+    @Nested
+    final class Iteration {
+
+        @Test
+        @DisplayName("Reader gives the same rows as from")
+        void sameRowsAsFrom() throws IOException {
+            var expected = SkCsv.from(TEMPLATE);
+            var rows = new ArrayList<SkCsvRow>();
+            try (var reader = SkCsvReader.open(TEMPLATE)) {
+                reader.forEachRemaining(rows::add);
+            }
+            assertEquals(expected, new SkCsv(rows));
+        }
+
+        @Test
+        @DisplayName("Reader iterator contract")
+        void iteratorContract() throws IOException {
+            Files.writeString(TEMP, "a;b\n\"multi\nline\";c\n");
+            try (var reader = SkCsvReader.open(TEMP, StandardCharsets.UTF_8)) {
+                assertAll("Iterator contract",
+                        () -> assertTrue(reader.hasNext()),
+                        () -> assertTrue(reader.hasNext()),
+                        () -> assertEquals(new SkCsvRow("a", "b"), reader.next()),
+                        () -> assertEquals(new SkCsvRow("multi\nline", "c"), reader.next()),
+                        () -> assertFalse(reader.hasNext()),
+                        () -> assertThrows(NoSuchElementException.class, reader::next)
+                );
+            } finally {
+                Files.deleteIfExists(TEMP);
+            }
+        }
+
+        @Test
+        @DisplayName("Reader on an empty file")
+        void emptyFile() throws IOException {
+            Files.writeString(TEMP, "");
+            try (var reader = SkCsvReader.open(TEMP, SkCsvConfig.COMMA)) {
+                assertFalse(reader.hasNext());
+            } finally {
+                Files.deleteIfExists(TEMP);
+            }
+        }
+
+        @Test
+        @DisplayName("Reader with a delimiter and a quote beyond Latin-1")
+        void wideConfiguration() throws IOException {
+            var config = new SkCsvConfig('\u2016', '\u00AB');
+            try (var reader = SkCsvReader.open("a\u2016\u00ABb\u2016\u00AB\u00ABc\u00AB\r\nd\u2016e\u0100", config)) {
+                assertAll("Wide configuration",
+                        () -> assertEquals(new SkCsvRow("a", "b\u2016\u00ABc"), reader.next()),
+                        () -> assertEquals(new SkCsvRow("d", "e\u0100"), reader.next()),
+                        () -> assertFalse(reader.hasNext())
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Reader parsing exceptions")
+        void parsingExceptions() throws IOException {
+            Files.writeString(TEMP, "a;b\n\"open;c\n");
+            try (var reader = SkCsvReader.open(TEMP)) {
+                assertAll("Parsing exceptions",
+                        () -> assertEquals(new SkCsvRow("a", "b"), reader.next()),
+                        () -> assertThrows(CsvParsingException.class, reader::hasNext)
+                );
+            } finally {
+                Files.deleteIfExists(TEMP);
+            }
+        }
+
+    }
+
+    @Nested
+    final class Bytes {
+
+        @Test
+        @DisplayName("Byte stream with multibyte chars across reads")
+        void multibyteAcrossReads() throws IOException {
+            var expected = new SkCsv();
+            var text = new StringBuilder();
+            for (int i = 0; i < 20_000; i++) {
+                expected.add(new SkCsvRow("été" + i, "ascii", "\u20AC;\n\uD83D\uDE00"));
+                text.append("été").append(i).append(";ascii;\"\u20AC;\n\uD83D\uDE00\"\n");
+            }
+            var bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+            try (var reader = SkCsvReader.open(new ByteArrayInputStream(bytes), SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)) {
+                assertEquals(expected, reader.stream().collect(SkCsv.collector()));
+            }
+        }
+
+        @Test
+        @DisplayName("Byte stream with a charset that cannot be parsed as bytes")
+        void decodedCharsets() throws IOException {
+            var bytes = "a;b\n\"c\nd\";e".getBytes(StandardCharsets.UTF_16);
+            var config = new SkCsvConfig('é', '"');
+            var latin = "aéb\nc".getBytes(StandardCharsets.ISO_8859_1);
+            try (var utf16 = SkCsvReader.open(new ByteArrayInputStream(bytes), SkCsvConfig.SEMICOLON, StandardCharsets.UTF_16);
+                 var utf8 = SkCsvReader.open(new ByteArrayInputStream("aéb\nc".getBytes(StandardCharsets.UTF_8)), config, StandardCharsets.UTF_8);
+                 var iso = SkCsvReader.open(new ByteArrayInputStream(latin), config, StandardCharsets.ISO_8859_1)) {
+                assertAll("Decoded charsets",
+                        () -> assertEquals(new SkCsv(new SkCsvRow("a", "b"), new SkCsvRow("c\nd", "e")), utf16.stream().collect(SkCsv.collector())),
+                        () -> assertEquals(new SkCsv(new SkCsvRow("a", "b"), new SkCsvRow("c")), utf8.stream().collect(SkCsv.collector())),
+                        () -> assertEquals(new SkCsv(new SkCsvRow("a", "b"), new SkCsvRow("c")), iso.stream().collect(SkCsv.collector()))
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Non ASCII bytes are reported in US-ASCII")
+        void nonAscii() throws IOException {
+            var bytes = "a;é".getBytes(StandardCharsets.ISO_8859_1);
+            try (var reader = SkCsvReader.open(new ByteArrayInputStream(bytes), SkCsvConfig.SEMICOLON, StandardCharsets.US_ASCII)) {
+                assertThrows(UncheckedIOException.class, reader::next);
+            }
+        }
+
+    }
+
+    @Nested
+    final class Mapped {
+
+        @Test
+        @DisplayName("Mapped reader gives the same rows as from")
+        void sameRowsAsFrom() throws IOException {
+            try (var reader = SkCsvReader.openMapped(TEMPLATE, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)) {
+                assertEquals(SkCsv.from(TEMPLATE), reader.stream().collect(SkCsv.collector()));
+            }
+        }
+
+        @Test
+        @DisplayName("Mapped reader handles the last record without terminator")
+        void lastRecord() throws IOException {
+            Files.writeString(TEMP, "a;\"b\r\nc\"\r\nd");
+            try (var reader = SkCsvReader.openMapped(TEMP, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)) {
+                assertAll("Last record",
+                        () -> assertEquals(new SkCsvRow("a", "b\nc"), reader.next()),
+                        () -> assertEquals(new SkCsvRow("d"), reader.next()),
+                        () -> assertFalse(reader.hasNext())
+                );
+            } finally {
+                Files.deleteIfExists(TEMP);
+            }
+        }
+
+    }
+
+    @Nested
+    final class Projection {
+
+        private static final String TEXT = "id;name;city;age\n1;\"Ann;e\";Paris;31\n2;Bob;\"New\r\nYork\";42\n3;Eve\n";
+
+        @Test
+        @DisplayName("Projection by column index")
+        void byIndex() throws IOException {
+            var expected = new SkCsv(
+                    new SkCsvRow("age", "name"), new SkCsvRow("31", "Ann;e"), new SkCsvRow("42", "Bob"), new SkCsvRow("", "Eve")
+            );
+            var bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+            try (var chars = SkCsvReader.open(TEXT, SkCsvConfig.SEMICOLON).select(3, 1);
+                 var utf8 = SkCsvReader.open(new ByteArrayInputStream(bytes), SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8).select(3, 1)) {
+                assertAll("By index",
+                        () -> assertEquals(expected, chars.stream().collect(SkCsv.collector())),
+                        () -> assertEquals(expected, utf8.stream().collect(SkCsv.collector()))
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Projection by header name")
+        void byName() throws IOException {
+            var expected = new SkCsv(
+                    new SkCsvRow("city", "id"), new SkCsvRow("Paris", "1"), new SkCsvRow("New\nYork", "2"), new SkCsvRow("", "3")
+            );
+            try (var reader = SkCsvReader.open(TEXT, SkCsvConfig.SEMICOLON).select("city", "id");
+                 var unknown = SkCsvReader.open(TEXT, SkCsvConfig.SEMICOLON).select("id", "country")) {
+                assertAll("By name",
+                        () -> assertEquals(expected, reader.stream().collect(SkCsv.collector())),
+                        () -> assertThrows(IllegalArgumentException.class, unknown::next)
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Skipped cells are still validated")
+        void skippedCellsValidated() throws IOException {
+            try (var reader = SkCsvReader.open("a;b\"c;d\n", SkCsvConfig.SEMICOLON).select(0)) {
+                assertThrows(CsvParsingException.class, reader::next);
+            }
+        }
+
+        @Test
+        @DisplayName("Projection assertions")
+        void assertions() throws IOException {
+            try (var reader = SkCsvReader.open(TEXT, SkCsvConfig.SEMICOLON)) {
+                assertAll("Projection assertions",
+                        () -> assertThrows(NullPointerException.class, () -> reader.select((int[]) null)),
+                        () -> assertThrows(NullPointerException.class, () -> reader.select("id", null)),
+                        () -> assertThrows(IllegalArgumentException.class, () -> reader.select(-1)),
+                        () -> assertThrows(IllegalArgumentException.class, () -> reader.select(2, 0, 2)),
+                        () -> assertEquals(new SkCsvRow("id", "name", "city", "age"), reader.next()),
+                        () -> assertThrows(IllegalStateException.class, () -> reader.select(0))
+                );
+            }
+        }
+
+    }
+
+    @Nested
+    final class Filtering {
+
+        private static final String TEXT = "id;name;city\n1;Ann;Paris\n2;\"Bob\nJr\";Lyon\n3;Eve;Paris\n4;Zed\n";
+
+        @Test
+        @DisplayName("Filter by column index")
+        void byIndex() throws IOException {
+            var expected = new SkCsv(new SkCsvRow("1", "Ann", "Paris"), new SkCsvRow("3", "Eve", "Paris"));
+            var bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+            try (var chars = SkCsvReader.open(TEXT, SkCsvConfig.SEMICOLON).filter(2, "Paris"::equals);
+                 var utf8 = SkCsvReader.open(new ByteArrayInputStream(bytes), SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)
+                         .filter(2, "Paris"::equals)) {
+                assertAll("By index",
+                        () -> assertEquals(expected, chars.stream().collect(SkCsv.collector())),
+                        () -> assertEquals(expected, utf8.stream().collect(SkCsv.collector()))
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Filter by header name, with projection and several filters")
+        void byName() throws IOException {
+            try (var reader = SkCsvReader.open(TEXT, SkCsvConfig.SEMICOLON)
+                    .select("name")
+                    .filter("city", city -> !city.equals("Lyon"))
+                    .filter(0, id -> !id.equals("1"))) {
+                assertEquals(new SkCsv(new SkCsvRow("name"), new SkCsvRow("Eve")), reader.stream().collect(SkCsv.collector()));
+            }
+        }
+
+        @Test
+        @DisplayName("Rejected records are still validated")
+        void rejectedRecordsValidated() throws IOException {
+            try (var reader = SkCsvReader.open("a;b\nc;d\"e\n", SkCsvConfig.SEMICOLON).filter(0, "a"::equals)) {
+                assertAll("Rejected records",
+                        () -> assertEquals(new SkCsvRow("a", "b"), reader.next()),
+                        () -> assertThrows(CsvParsingException.class, reader::hasNext)
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Filter assertions")
+        void assertions() throws IOException {
+            try (var reader = SkCsvReader.open(TEXT, SkCsvConfig.SEMICOLON);
+                 var unknown = SkCsvReader.open(TEXT, SkCsvConfig.SEMICOLON).filter("country", "France"::equals)) {
+                assertAll("Filter assertions",
+                        () -> assertThrows(NullPointerException.class, () -> reader.filter(0, null)),
+                        () -> assertThrows(NullPointerException.class, () -> reader.filter(null, "a"::equals)),
+                        () -> assertThrows(IllegalArgumentException.class, () -> reader.filter(-1, "a"::equals)),
+                        () -> assertThrows(IllegalArgumentException.class, unknown::next),
+                        () -> assertTrue(reader.hasNext()),
+                        () -> assertThrows(IllegalStateException.class, () -> reader.filter(0, "a"::equals))
+                );
+            }
+        }
+
+    }
+
+    @Nested
+    final class SkipAndLimit {
+
+        private static String numbered(int count) {
+            var text = new StringBuilder("id;value\n");
+            for (int i = 0; i < count; i++) {
+                text.append(i).append(";\"v\n").append(i).append("\"\n");
+            }
+            return text.toString();
+        }
+
+        @Test
+        @DisplayName("Skip and limit records")
+        void skipAndLimit() throws IOException {
+            var text = numbered(1_000);
+            try (var window = SkCsvReader.open(text, SkCsvConfig.SEMICOLON).skip(501).limit(2);
+                 var named = SkCsvReader.open(text, SkCsvConfig.SEMICOLON).select("value").skip(998).limit(5);
+                 var empty = SkCsvReader.open(text, SkCsvConfig.SEMICOLON).limit(0)) {
+                assertAll("Skip and limit",
+                        () -> assertEquals(new SkCsv(new SkCsvRow("500", "v\n500"), new SkCsvRow("501", "v\n501")),
+                                window.stream().collect(SkCsv.collector())),
+                        () -> assertEquals(new SkCsv(new SkCsvRow("value"), new SkCsvRow("v\n998"), new SkCsvRow("v\n999")),
+                                named.stream().collect(SkCsv.collector())),
+                        () -> assertFalse(empty.hasNext())
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Limit stops reading the source")
+        void limitStopsReading() throws IOException {
+            var bytes = (numbered(100_000) + "\"broken").getBytes(StandardCharsets.UTF_8);
+            var read = new int[1];
+            var stream = new ByteArrayInputStream(bytes) {
+                @Override
+                public synchronized int read(byte[] buffer, int offset, int length) {
+                    var count = super.read(buffer, offset, length);
+                    read[0] += Math.max(0, count);
+                    return count;
+                }
+            };
+            try (var reader = SkCsvReader.open(stream, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8).limit(10)) {
+                assertAll("Limit",
+                        () -> assertEquals(10, reader.stream().count()),
+                        () -> assertTrue(read[0] < bytes.length)
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Skip and limit assertions")
+        void assertions() throws IOException {
+            try (var reader = SkCsvReader.open("a\nb", SkCsvConfig.SEMICOLON)) {
+                assertAll("Skip and limit assertions",
+                        () -> assertThrows(IllegalArgumentException.class, () -> reader.skip(-1)),
+                        () -> assertThrows(IllegalArgumentException.class, () -> reader.limit(-1)),
+                        () -> assertEquals(new SkCsvRow("a"), reader.next()),
+                        () -> assertThrows(IllegalStateException.class, () -> reader.skip(1)),
+                        () -> assertThrows(IllegalStateException.class, () -> reader.limit(1))
+                );
+            }
+        }
+
+    }
+
+    @Nested
+    final class Interning {
+
+        @Test
+        @DisplayName("Repeated cells share the same String")
+        void sameInstances() throws IOException {
+            var text = "FR;active;1\nUS;active;2\nFR;closed;3\nFR;active;4\n";
+            var bytes = text.getBytes(StandardCharsets.UTF_8);
+            try (var chars = SkCsvReader.open(text, SkCsvConfig.SEMICOLON).intern();
+                 var utf8 = SkCsvReader.open(new ByteArrayInputStream(bytes), SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8).intern()) {
+                for (var csv : new SkCsv[]{chars.stream().collect(SkCsv.collector()), utf8.stream().collect(SkCsv.collector())}) {
+                    assertAll("Same instances",
+                            () -> assertEquals(SkCsv.from(text, SkCsvConfig.SEMICOLON), csv),
+                            () -> assertSame(csv.get(0).get(0), csv.get(2).get(0)),
+                            () -> assertSame(csv.get(0).get(0), csv.get(3).get(0)),
+                            () -> assertSame(csv.get(0).get(1), csv.get(1).get(1))
+                    );
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Interned cells with multibyte chars")
+        void multibyte() throws IOException {
+            var text = "Ã©;é\né;Ã©\nÃ©;é\n";
+            var bytes = text.getBytes(StandardCharsets.UTF_8);
+            var latin = text.getBytes(StandardCharsets.ISO_8859_1);
+            try (var utf8 = SkCsvReader.open(new ByteArrayInputStream(bytes), SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8).intern();
+                 var iso = SkCsvReader.open(new ByteArrayInputStream(latin), SkCsvConfig.SEMICOLON, StandardCharsets.ISO_8859_1).intern()) {
+                var expected = SkCsv.from(text, SkCsvConfig.SEMICOLON);
+                assertAll("Multibyte",
+                        () -> assertEquals(expected, utf8.stream().collect(SkCsv.collector())),
+                        () -> assertEquals(expected, iso.stream().collect(SkCsv.collector()))
+                );
+            }
+        }
+
+    }
+
+    @Nested
+    final class Checkpoints {
+
+        private static final String TEXT = "a;b\r\n\"é\r\nf\";g\r\rh;\"\"\"i\"\n\nj;k";
+
+        private static SkCsvCheckpoint serialized(SkCsvCheckpoint checkpoint) throws IOException, ClassNotFoundException {
+            var bytes = new ByteArrayOutputStream();
+            try (var output = new ObjectOutputStream(bytes)) {
+                output.writeObject(checkpoint);
+            }
+            try (var input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                return (SkCsvCheckpoint) input.readObject();
+            }
+        }
+
+        @Test
+        @DisplayName("Reading resumes from any checkpoint")
+        void resume() throws IOException, ClassNotFoundException {
+            var expected = SkCsv.from(TEXT, SkCsvConfig.SEMICOLON).stream().toList();
+            try {
+                for (var charset : new Charset[]{StandardCharsets.UTF_8, StandardCharsets.UTF_16LE}) {
+                    Files.writeString(TEMP, TEXT, charset);
+                    for (int read = 0; read <= expected.size(); read++) {
+                        SkCsvCheckpoint checkpoint;
+                        try (var reader = SkCsvReader.open(TEMP, SkCsvConfig.SEMICOLON, charset)) {
+                            for (int i = 0; i < read; i++) reader.next();
+                            reader.hasNext();
+                            checkpoint = serialized(reader.checkpoint());
+                        }
+                        var rows = new ArrayList<SkCsvRow>();
+                        try (var reader = SkCsvReader.open(TEMP, SkCsvConfig.SEMICOLON, charset, checkpoint);
+                             var mapped = SkCsvReader.openMapped(TEMP, SkCsvConfig.SEMICOLON, charset, checkpoint)) {
+                            reader.forEachRemaining(rows::add);
+                            assertEquals(rows, mapped.stream().toList());
+                        }
+                        var finalRead = read;
+                        assertAll("Resume",
+                                () -> assertEquals(finalRead, checkpoint.record()),
+                                () -> assertEquals(expected.subList(finalRead, expected.size()), rows)
+                        );
+                    }
+                }
+            } finally {
+                Files.deleteIfExists(TEMP);
+            }
+        }
+
+        @Test
+        @DisplayName("Reading resumes with the header of the text")
+        void resumeWithHeader() throws IOException, ClassNotFoundException {
+            try {
+                for (var charset : new Charset[]{StandardCharsets.UTF_8, StandardCharsets.UTF_16LE}) {
+                    Files.writeString(TEMP, TEXT, charset);
+                    List<SkCsvRow> expected;
+                    try (var reader = SkCsvReader.open(TEMP, SkCsvConfig.SEMICOLON, charset).withHeader().select("b", "a")) {
+                        expected = reader.stream().toList();
+                    }
+                    for (int read = 0; read <= expected.size(); read++) {
+                        SkCsvCheckpoint checkpoint;
+                        try (var reader = SkCsvReader.open(TEMP, SkCsvConfig.SEMICOLON, charset).withHeader().select("b", "a")) {
+                            for (int i = 0; i < read; i++) reader.next();
+                            reader.hasNext();
+                            checkpoint = serialized(reader.checkpoint());
+                        }
+                        var rows = new ArrayList<SkCsvRow>();
+                        SkCsvHeader header;
+                        SkCsvCheckpoint last;
+                        try (var reader = SkCsvReader.open(TEMP, SkCsvConfig.SEMICOLON, charset, checkpoint).withHeader().select("b", "a");
+                             var mapped = SkCsvReader.openMapped(TEMP, SkCsvConfig.SEMICOLON, charset, checkpoint).select("a")) {
+                            header = reader.header();
+                            reader.forEachRemaining(rows::add);
+                            last = reader.checkpoint();
+                            assertEquals(rows.stream().map(row -> new SkCsvRow(row.get(1))).toList(), mapped.stream().toList());
+                        }
+                        var finalRead = read;
+                        assertAll("Resume with header",
+                                () -> assertEquals(finalRead == 0 ? null : List.of("a", "b"), checkpoint.header()),
+                                () -> assertEquals(List.of("a", "b"), last.header()),
+                                () -> assertEquals(SkCsvHeader.of("b", "a"), header),
+                                () -> assertEquals(expected.subList(finalRead, expected.size()), rows)
+                        );
+                    }
+                }
+            } finally {
+                Files.deleteIfExists(TEMP);
+            }
+        }
+
+        @Test
+        @DisplayName("Checkpoints beyond the end of the text")
+        void beyondEnd() throws IOException {
+            var checkpoint = new SkCsvCheckpoint(1000, 3, false);
+            try {
+                Files.writeString(TEMP, TEXT, StandardCharsets.UTF_8);
+                assertAll("Beyond the end",
+                        () -> assertThrows(EOFException.class, () -> SkCsvReader.open(TEMP, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, checkpoint)),
+                        () -> assertThrows(EOFException.class, () -> SkCsvReader.open(TEMP, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_16LE, checkpoint))
+                );
+            } finally {
+                Files.deleteIfExists(TEMP);
+            }
+        }
+
+        @Test
+        @DisplayName("Checkpoints follow the last row returned")
+        void positions() throws IOException {
+            try (var reader = SkCsvReader.open(new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.UTF_8)),
+                    SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8).filter(0, cell -> !cell.equals("h"))) {
+                var start = reader.checkpoint();
+                reader.next();
+                var first = reader.checkpoint();
+                reader.next();
+                reader.hasNext();
+                var second = reader.checkpoint();
+                var offsets = new ArrayList<Long>();
+                reader.forEachView(view -> offsets.add(reader.checkpoint().offset()));
+                assertAll("Positions",
+                        () -> assertEquals(SkCsvCheckpoint.START, start),
+                        () -> assertEquals(new SkCsvCheckpoint(4, 1, true), first),
+                        () -> assertEquals(new SkCsvCheckpoint(15, 2, true), second),
+                        () -> assertEquals(List.of(16L, 25L, 28L), offsets),
+                        () -> assertEquals(new SkCsvCheckpoint(28, 6, false), reader.checkpoint()),
+                        () -> assertThrows(IllegalArgumentException.class, () -> new SkCsvCheckpoint(-1, 0, false)),
+                        () -> assertThrows(IllegalArgumentException.class, () -> new SkCsvCheckpoint(0, 0, false, List.of("a"))),
+                        () -> assertThrows(NullPointerException.class, () -> SkCsvReader.open(TEMPLATE, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, (SkCsvCheckpoint) null))
+                );
+            }
+        }
+
+    }
+
+    @Nested
+    final class StreamTest {
+
+        @Test
+        @DisplayName("Stream over a reader")
+        void stream() throws IOException {
+            try (var stream = SkCsvReader.open(TEMPLATE, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8).stream()) {
+                assertEquals(SkCsv.from(TEMPLATE), stream.collect(SkCsv.collector()));
+            }
+        }
+
+        @Test
+        @DisplayName("Closing the stream closes the reader")
+        void closeStream() throws IOException {
+            var reader = SkCsvReader.open(TEMPLATE);
+            var stream = reader.stream();
+            stream.close();
+            assertAll("Closed reader",
+                    () -> assertFalse(reader.hasNext()),
+                    () -> assertThrows(NoSuchElementException.class, reader::next)
+            );
+        }
+
+    }
+
+    @Nested
+    final class Assertions {
+
+        @Test
+        @DisplayName("Null assertions")
+        void nullAssertions() {
+            assertAll("Null assertions",
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvReader.open(null)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvReader.open(TEMPLATE, (SkCsvConfig) null)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvReader.open(TEMPLATE, SkCsvConfig.SEMICOLON, null)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvReader.open(null, StandardCharsets.UTF_8))
+            );
+        }
+
+        @Test
+        @DisplayName("I/O errors are unchecked while iterating")
+        void uncheckedIO() throws IOException {
+            Files.write(TEMP, new byte[]{(byte) 0xC3, (byte) 0x28});
+            try (var reader = SkCsvReader.open(TEMP, StandardCharsets.UTF_8)) {
+                assertThrows(UncheckedIOException.class, reader::hasNext);
+            } finally {
+                Files.deleteIfExists(TEMP);
+            }
+        }
+
+    }
+
+}
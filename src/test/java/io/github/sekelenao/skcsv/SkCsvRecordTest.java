@@ -1,13 +1,16 @@
 package io.github.sekelenao.skcsv;
 
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -56,6 +59,20 @@ final class SkCsvRecordTest {
 
     }
 
+    public enum Unit { METER, SECOND }
+
+    public record Measure(
+            @CsvColumn long id,
+            @CsvColumn double value,
+            @CsvColumn Unit unit,
+            String note,
+            @CsvColumn boolean valid,
+            @CsvColumn LocalDate day,
+            @CsvColumn Integer count,
+            @CsvColumn char grade,
+            @CsvColumn float ratio
+    ) {}
+
     private static final Path PRODUCED_PATH = Paths.get("src", "test", "resources", "produced.csv");
 
     private static final List<Animal> ANIMALS = List.of(
@@ -159,6 +176,92 @@ final class SkCsvRecordTest {
 
     }
 
+    @Nested
+    final class Import {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("Import exported records")
+        void importExported() throws IOException {
+            var path = directory.resolve("animals.csv");
+            SkCsvRecords.export(path, ANIMALS);
+            try (var animals = SkCsvRecords.read(path, Animal.class)) {
+                assertEquals(ANIMALS, animals.toList());
+            }
+            SkCsvRecords.export(path, ANIMALS, SkCsvConfig.COMMA, StandardOpenOption.TRUNCATE_EXISTING);
+            try (var animals = SkCsvRecords.read(path, Animal.class, SkCsvConfig.COMMA)) {
+                assertEquals(ANIMALS.get(2), animals.skip(2).findFirst().orElseThrow());
+            }
+        }
+
+        @Test
+        @DisplayName("Import records exported asynchronously")
+        void importExportedAsync() throws Exception {
+            var path = directory.resolve("async.csv");
+            var completion = SkCsvRecords.exportAsync(path, ANIMALS, SkCsvConfig.COMMA);
+            completion.get();
+            try (var animals = SkCsvRecords.read(path, Animal.class, SkCsvConfig.COMMA)) {
+                assertEquals(ANIMALS, animals.toList());
+            }
+            var invalid = new ArrayList<Record>(ANIMALS);
+            invalid.add(null);
+            assertAll("Invalid records",
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvRecords.exportAsync(path, invalid, SkCsvConfig.COMMA)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvRecords.exportAsync(path, null, SkCsvConfig.COMMA))
+            );
+        }
+
+        @Test
+        @DisplayName("Import records of every supported kind of component")
+        void importTypes() throws IOException {
+            var measures = List.of(
+                    new Measure(-42L, 3.25, Unit.METER, null, true, LocalDate.of(2024, 2, 29), 7, 'A', 0.1f),
+                    new Measure(Long.MAX_VALUE, -1e-7, Unit.SECOND, null, false, LocalDate.of(1969, 12, 31), null, ';', 1e30f)
+            );
+            var path = directory.resolve("measures.csv");
+            SkCsvRecords.export(path, measures);
+            try (var read = SkCsvRecords.read(path, Measure.class)) {
+                assertEquals(measures, read.toList());
+            }
+        }
+
+        @Test
+        @DisplayName("Import records from a reader")
+        void importFromReader() {
+            var reader = SkCsvReader.open("name;legs\nDog;4\nBird;2\n", SkCsvConfig.SEMICOLON).skip(1);
+            try (var animals = SkCsvRecords.read(reader, Animal.class)) {
+                assertEquals(List.of(new Animal("Dog", 0f, 4), new Animal("Bird", 0f, 2)), animals.toList());
+            }
+        }
+
+        @Test
+        @DisplayName("Import errors")
+        void importErrors() {
+            var path = directory.resolve("errors.csv");
+            assertAll("Errors",
+                    () -> assertThrows(IllegalArgumentException.class, () -> SkCsvRecords.read(path, BankAccount.class)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvRecords.read(path, null)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvRecords.read((Path) null, Animal.class)),
+                    () -> assertThrows(NoSuchFileException.class, () -> SkCsvRecords.read(path, Animal.class)),
+                    () -> {
+                        var reader = SkCsvReader.open("Dog;four\n", SkCsvConfig.SEMICOLON);
+                        try (var animals = SkCsvRecords.read(reader, Animal.class)) {
+                            assertThrows(NumberFormatException.class, animals::toList);
+                        }
+                    },
+                    () -> {
+                        var reader = SkCsvReader.open("Spider;-8\n", SkCsvConfig.SEMICOLON);
+                        try (var animals = SkCsvRecords.read(reader, Animal.class)) {
+                            assertThrows(IllegalArgumentException.class, animals::toList);
+                        }
+                    }
+            );
+        }
+
+    }
+
     @Nested
     final class Constructor {
 
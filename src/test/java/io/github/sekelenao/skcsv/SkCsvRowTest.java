@@ -612,6 +612,17 @@ final class SkCsvRowTest {
             );
         }
 
+        @Test
+        @DisplayName("toString doubles every quote of a quoted value")
+        void toStringQuotedValues() {
+            var row = new SkCsvRow("a;b\"c\"\"", "\"", "ab\rc\"", "\"\"start", "clean \u00e9");
+            var expected = "\"a;b\"\"c\"\"\"\"\";\"\"\"\";\"ab\rc\"\"\";\"\"\"\"\"start\";clean \u00e9";
+            assertAll("Quoted values",
+                    () -> assertEquals(expected, row.toString()),
+                    () -> assertEquals(row, SkCsv.from(Collections.singleton(expected)).getFirst())
+            );
+        }
+
         @Test
         @DisplayName("toString with newlines")
         void toStringWithNewlines() {
@@ -0,0 +1,181 @@
+package io.github.sekelenao.skcsv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class SkCsvRowViewTest {
+
+    private static final String TEXT = "id;name;amount\n1;\"Ann\nLee\";10\n2;Bob;\n3;Éloïse;5\n";
+
+    private static SkCsvReader utf8Reader() {
+        var bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+        return SkCsvReader.open(new ByteArrayInputStream(bytes), SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    final class Cells {
+
+        @Test
+        @DisplayName("Views give the same rows as the iterator")
+        void sameRows() throws IOException {
+            var expected = SkCsv.from(TEXT, SkCsvConfig.SEMICOLON);
+            for (var reader : new SkCsvReader[]{SkCsvReader.open(TEXT, SkCsvConfig.SEMICOLON), utf8Reader()}) {
+                try (reader) {
+                    var rows = new ArrayList<SkCsvRow>();
+                    var texts = new ArrayList<String>();
+                    reader.forEachView(view -> {
+                        rows.add(view.toRow());
+                        var row = new SkCsvRow();
+                        for (int i = 0; i < view.size(); i++) {
+                            row.add(view.get(i).toString());
+                        }
+                        texts.add(row.toString());
+                    });
+                    assertAll("Same rows",
+                            () -> assertEquals(expected, new SkCsv(rows)),
+                            () -> assertEquals(expected.stream().map(SkCsvRow::toString).toList(), texts)
+                    );
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Cells are CharSequences read in place and reused")
+        void charSequences() throws IOException {
+            try (var reader = utf8Reader().skip(1)) {
+                var sum = new int[1];
+                var cells = new ArrayList<CharSequence>();
+                reader.forEachView(view -> {
+                    var amount = view.get(2);
+                    if (amount.length() > 0) sum[0] += Integer.parseInt(amount, 0, amount.length(), 10);
+                    cells.add(view.get(1));
+                    if (view.getString(0).equals("3")) {
+                        assertAll("In place",
+                                () -> assertEquals("Éloïse", view.get(1).toString()),
+                                () -> assertEquals('ï', view.get(1).charAt(3)),
+                                () -> assertEquals(6, view.get(1).length()),
+                                () -> assertEquals("lo", view.get(1).subSequence(1, 3)),
+                                () -> assertEquals(0, CharSequence.compare("5", view.get(2))),
+                                () -> assertThrows(IndexOutOfBoundsException.class, () -> view.get(3)),
+                                () -> assertThrows(IndexOutOfBoundsException.class, () -> view.get(1).charAt(6))
+                        );
+                    }
+                });
+                assertAll("Reused",
+                        () -> assertEquals(3, cells.size()),
+                        () -> assertSame(cells.get(0), cells.get(2)),
+                        () -> assertEquals(15, sum[0])
+                );
+            }
+        }
+
+    }
+
+    @Nested
+    final class TypedCells {
+
+        private static final List<String> CELLS = List.of(
+                "0", "-0", "+7", "42", "-2147483648", "2147483647", "2147483648", "-9223372036854775808",
+                "9223372036854775807", "9223372036854775808", "123456789012345678", "00012", "", "-", "+", "1.5",
+                "-0.25", ".5", "1.", "3.141592653589793", "0.1", "1e3", " 1", "NaN", "0x1p3", "١٢", "true", "TRUE",
+                "tRuE", "false", "yes", "2024-02-29", "2023-02-29", "1970-01-01", "0000-01-01", "9999-12-31",
+                "+10000-01-01", "2024-13-01", "2024-1-01", "é"
+        );
+
+        private static Object parse(Callable<?> parser) {
+            try {
+                return parser.call();
+            } catch (Exception e) {
+                return e.getClass();
+            }
+        }
+
+        private void assertSameParsing(SkCsvReader reader) throws IOException {
+            try (reader) {
+                var index = new int[1];
+                reader.forEachView(view -> {
+                    var cell = CELLS.get(index[0]++);
+                    assertAll(cell,
+                            () -> assertEquals(parse(() -> Integer.parseInt(cell)), parse(() -> view.getInt(0))),
+                            () -> assertEquals(parse(() -> Long.parseLong(cell)), parse(() -> view.getLong(0))),
+                            () -> assertEquals(parse(() -> Double.parseDouble(cell)), parse(() -> view.getDouble(0))),
+                            () -> assertEquals(Boolean.parseBoolean(cell), view.getBoolean(0)),
+                            () -> assertEquals(parse(() -> LocalDate.parse(cell).toEpochDay()), parse(() -> view.getEpochDay(0)))
+                    );
+                });
+                assertEquals(CELLS.size(), index[0]);
+            }
+        }
+
+        @Test
+        @DisplayName("Typed cells are parsed as by the JDK")
+        void sameAsJdk() throws IOException {
+            var text = String.join("\n", CELLS.stream().map(cell -> "\"" + cell + "\";x").toList());
+            assertSameParsing(SkCsvReader.open(text, SkCsvConfig.SEMICOLON));
+            var bytes = text.getBytes(StandardCharsets.UTF_8);
+            assertSameParsing(SkCsvReader.open(new ByteArrayInputStream(bytes), SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("Typed cells by column")
+        void byColumn() throws IOException {
+            try (var reader = SkCsvReader.open(TEXT, SkCsvConfig.SEMICOLON).withHeader()) {
+                var id = reader.header().column("id");
+                var sum = new long[1];
+                reader.forEachView(view -> sum[0] += view.getInt(id) + view.getLong(id));
+                assertEquals(12, sum[0]);
+            }
+        }
+
+    }
+
+    @Nested
+    final class Options {
+
+        @Test
+        @DisplayName("Views with projection, filter, header and limit")
+        void withOptions() throws IOException {
+            try (var reader = SkCsvReader.open(TEXT, SkCsvConfig.SEMICOLON)
+                    .select("amount", "name")
+                    .filter(0, id -> !id.equals("2"))
+                    .limit(3)) {
+                var rows = new ArrayList<SkCsvRow>();
+                reader.forEachView(view -> rows.add(view.toRow()));
+                assertAll("Options",
+                        () -> assertEquals(new SkCsv(
+                                new SkCsvRow("amount", "name"), new SkCsvRow("10", "Ann\nLee"), new SkCsvRow("5", "Éloïse")
+                        ), new SkCsv(rows)),
+                        () -> assertFalse(reader.hasNext())
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Views after the iterator")
+        void afterIterator() throws IOException {
+            try (var reader = SkCsvReader.open(TEXT, SkCsvConfig.SEMICOLON)) {
+                assertTrue(reader.hasNext());
+                var ids = new ArrayList<String>();
+                reader.forEachView(view -> ids.add(view.getString(0)));
+                assertAll("After iterator",
+                        () -> assertEquals(List.of("id", "1", "2", "3"), ids),
+                        () -> assertFalse(reader.hasNext()),
+                        () -> assertThrows(NullPointerException.class, () -> reader.forEachView(null))
+                );
+            }
+        }
+
+    }
+
+}
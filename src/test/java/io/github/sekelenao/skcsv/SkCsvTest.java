@@ -9,13 +9,19 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -1048,6 +1054,25 @@ final class SkCsvTest {
             );
         }
 
+        @Test
+        @DisplayName("Parsing exceptions report the record with the configured delimiter")
+        void parsingExceptionMessages() throws IOException {
+            var path = Paths.get("src", "test", "resources", "temp.csv");
+            try {
+                Files.writeString(path, "x,y\n\"é,\",\"b\"c\",d\nz\n");
+                assertAll("Parsing exception messages",
+                        () -> assertEquals("Could not parse, <a,b\"c> does not match CSV format.",
+                                assertThrows(CsvParsingException.class, () -> SkCsv.from(List.of("a,b\"c"), SkCsvConfig.COMMA)).getMessage()),
+                        () -> assertEquals("Could not parse, <a,\"b,c\",d\"e,f> does not match CSV format.",
+                                assertThrows(CsvParsingException.class, () -> SkCsv.from("a,\"b,c\",d\"e,f\ng", SkCsvConfig.COMMA)).getMessage()),
+                        () -> assertEquals("Could not parse, <\"é,\",\"b\"c\",d> does not match CSV format.",
+                                assertThrows(CsvParsingException.class, () -> SkCsv.from(path, SkCsvConfig.COMMA, StandardCharsets.UTF_8)).getMessage())
+                );
+            } finally {
+                Files.deleteIfExists(path);
+            }
+        }
+
         @Test
         @DisplayName("From a file")
         void fromFile() throws IOException {
@@ -1068,6 +1093,163 @@ final class SkCsvTest {
             );
         }
 
+
+        @Test
+        @DisplayName("From a character stream, a byte stream and a text")
+        void fromSources() throws IOException {
+            var path = Paths.get("src", "test", "resources", "template.csv");
+            var expected = SkCsv.from(path, StandardCharsets.UTF_8);
+            var text = Files.readString(path);
+            try (var reader = Files.newBufferedReader(path); var stream = Files.newInputStream(path)) {
+                var fromReader = SkCsv.from(reader, SkCsvConfig.SEMICOLON);
+                var fromStream = SkCsv.from(stream, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8);
+                assertAll("From sources",
+                        () -> assertEquals(expected, fromReader),
+                        () -> assertEquals(expected, fromStream),
+                        () -> assertEquals(expected, SkCsv.from(text, SkCsvConfig.SEMICOLON)),
+                        () -> assertEquals(expected, SkCsv.from(new StringBuilder(text), SkCsvConfig.SEMICOLON))
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("From a text with any line terminator")
+        void fromTextTerminators() {
+            var expected = new SkCsv(
+                    new SkCsvRow("a", "b"),
+                    new SkCsvRow(""),
+                    new SkCsvRow("multi\nline", "c")
+            );
+            assertAll("Line terminators",
+                    () -> assertEquals(expected, SkCsv.from("a;b\n\n\"multi\nline\";c\n", SkCsvConfig.SEMICOLON)),
+                    () -> assertEquals(expected, SkCsv.from("a;b\r\n\r\n\"multi\r\nline\";c", SkCsvConfig.SEMICOLON)),
+                    () -> assertEquals(expected, SkCsv.from("a;b\r\r\"multi\rline\";c\r", SkCsvConfig.SEMICOLON)),
+                    () -> assertEquals(0, SkCsv.from("", SkCsvConfig.SEMICOLON).size()),
+                    () -> assertEquals(1, SkCsv.from("\"\"", SkCsvConfig.SEMICOLON).size()),
+                    () -> assertThrows(CsvParsingException.class, () -> SkCsv.from("a;\"b\nc", SkCsvConfig.SEMICOLON)),
+                    () -> assertThrows(InvalidCsvValueException.class, () -> SkCsv.from("a;\0", SkCsvConfig.SEMICOLON))
+            );
+        }
+
+        @Test
+        @DisplayName("From a text larger than the reading buffer")
+        void fromLargeText() {
+            var text = new StringBuilder();
+            var expected = new SkCsv();
+            for (int i = 0; i < 5_000; i++) {
+                text.append(i).append(";\"quoted\r\n").append(i).append("\"\r\n");
+                expected.add(new SkCsvRow(String.valueOf(i), "quoted\n" + i));
+            }
+            assertEquals(expected, SkCsv.from(text, SkCsvConfig.SEMICOLON));
+        }
+
+        @Test
+        @DisplayName("From sources null assertions")
+        void fromSourcesNull() {
+            var reader = new StringReader("");
+            var stream = new ByteArrayInputStream(new byte[0]);
+            assertAll("Null assertions",
+                    () -> assertThrows(NullPointerException.class, () -> SkCsv.from((Reader) null, SkCsvConfig.SEMICOLON)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsv.from(reader, null)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsv.from((InputStream) null, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsv.from(stream, SkCsvConfig.SEMICOLON, null)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsv.from((CharSequence) null, SkCsvConfig.SEMICOLON)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsv.from("", null))
+            );
+        }
+
+        @Test
+        @DisplayName("From a mapped file")
+        void fromMappedFile() throws IOException {
+            var pathSemicolon = Paths.get("src", "test", "resources", "template.csv");
+            var pathComma = Paths.get("src", "test", "resources", "template_comma.csv");
+            var temp = Paths.get("src", "test", "resources", "temp_mapped.csv");
+            var accents = new SkCsv(new SkCsvRow("é;à", "ü", "\"ß\""), new SkCsvRow("ÿ", ""));
+            try {
+                accents.export(temp, StandardCharsets.ISO_8859_1);
+                var latin = SkCsv.fromMapped(temp, SkCsvConfig.SEMICOLON, StandardCharsets.ISO_8859_1);
+                accents.export(temp, StandardCharsets.UTF_8);
+                var utf8 = SkCsv.fromMapped(temp, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8);
+                accents.export(temp, StandardCharsets.UTF_16);
+                var utf16 = SkCsv.fromMapped(temp, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_16);
+                assertAll("From a mapped file",
+                        () -> assertEquals(SkCsv.from(pathSemicolon, StandardCharsets.UTF_8),
+                                SkCsv.fromMapped(pathSemicolon, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)),
+                        () -> assertEquals(SkCsv.from(pathComma, SkCsvConfig.COMMA, StandardCharsets.US_ASCII),
+                                SkCsv.fromMapped(pathComma, SkCsvConfig.COMMA, StandardCharsets.US_ASCII)),
+                        () -> assertEquals("é;à", latin.getFirst().getFirst()),
+                        () -> assertEquals(accents, latin),
+                        () -> assertEquals(accents, utf8),
+                        () -> assertEquals(accents, utf16)
+                );
+                Files.write(temp, new byte[]{'a', ';', (byte) 0xC3, (byte) 0x28});
+                assertThrows(IOException.class, () -> SkCsv.fromMapped(temp, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8));
+                Files.write(temp, new byte[0]);
+                assertTrue(SkCsv.fromMapped(temp, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8).isEmpty());
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            assertAll("Null assertions",
+                    () -> assertThrows(NullPointerException.class, () -> SkCsv.fromMapped(null, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsv.fromMapped(pathComma, null, StandardCharsets.UTF_8)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsv.fromMapped(pathComma, SkCsvConfig.COMMA, null))
+            );
+        }
+
+        @Test
+        @DisplayName("From a file in parallel")
+        void fromParallel() throws IOException {
+            var temp = Paths.get("src", "test", "resources", "temp_parallel.csv");
+            var pool = new ForkJoinPool(4);
+            var csv = new SkCsv();
+            for (int i = 0; i < 100_000; i++) {
+                csv.add(new SkCsvRow(String.valueOf(i), "quoted;\r\n\"" + i + "\"", "", "\n"));
+            }
+            var huge = new SkCsv(new SkCsvRow("start"), new SkCsvRow("a\n".repeat(2_000_000)), new SkCsvRow("end"));
+            try {
+                csv.export(temp, StandardCharsets.UTF_8);
+                var sequential = SkCsv.from(temp, StandardCharsets.UTF_8);
+                var parallel = SkCsv.fromParallel(temp, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, pool);
+                huge.export(temp, StandardCharsets.UTF_8);
+                var parallelHuge = SkCsv.fromParallel(temp, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8);
+                assertAll("From a file in parallel",
+                        () -> assertEquals(csv.size(), parallel.size()),
+                        () -> assertEquals(sequential, parallel),
+                        () -> assertEquals(huge, parallelHuge)
+                );
+                Files.writeString(temp, "a;b\n".repeat(1_000_000) + "\"a\"b;c\n" + "a;b\n".repeat(1_000_000));
+                assertThrows(CsvParsingException.class, () ->
+                        SkCsv.fromParallel(temp, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, pool)
+                );
+            } finally {
+                pool.shutdown();
+                Files.deleteIfExists(temp);
+            }
+            var path = Paths.get("src", "test", "resources", "template.csv");
+            assertAll("Small files and null assertions",
+                    () -> assertEquals(SkCsv.from(path), SkCsv.fromParallel(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsv.fromParallel(path, SkCsvConfig.SEMICOLON, null)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsv.fromParallel(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, null))
+            );
+        }
+
+        @Test
+        @DisplayName("Stream from a file")
+        void streamFromFile() throws IOException {
+            var path = Paths.get("src", "test", "resources", "template_comma.csv");
+            try (var stream = SkCsv.streamFrom(path, SkCsvConfig.COMMA, StandardCharsets.UTF_8)) {
+                assertEquals(SkCsv.from(path, SkCsvConfig.COMMA), stream.collect(SkCsv.collector()));
+            }
+            try (var stream = SkCsv.streamFrom(path, SkCsvConfig.COMMA)) {
+                assertEquals(6, stream.count());
+            }
+            assertAll("Stream null assertions",
+                    () -> assertThrows(NullPointerException.class, () -> SkCsv.streamFrom(null)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsv.streamFrom(path, (SkCsvConfig) null)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsv.streamFrom(path, SkCsvConfig.COMMA, null))
+            );
+        }
+
     }
 
     @Nested
@@ -1086,6 +1268,33 @@ final class SkCsvTest {
             Files.deleteIfExists(path);
         }
 
+        @Test
+        @DisplayName("Parallel and asynchronous exports write the same file as export")
+        void exportParallel() throws IOException, ExecutionException, InterruptedException {
+            var path = Paths.get("src", "test", "resources", "temp.csv");
+            var parallelPath = Paths.get("src", "test", "resources", "temp-parallel.csv");
+            var csv = new SkCsv();
+            for (int i = 0; i < 30_000; i++) {
+                csv.add(new SkCsvRow(String.valueOf(i), "cell;" + i, "\"" + i + "\"", "\u00e9\n"));
+            }
+            var pool = new ForkJoinPool(3);
+            try {
+                csv.export(path, StandardCharsets.UTF_8);
+                csv.exportParallel(parallelPath, StandardCharsets.UTF_8, pool);
+                assertArrayEquals(Files.readAllBytes(path), Files.readAllBytes(parallelPath));
+                csv.exportParallel(parallelPath, StandardCharsets.UTF_16);
+                assertEquals(csv, SkCsv.from(parallelPath, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_16));
+                new SkCsv().exportParallel(parallelPath, StandardCharsets.UTF_8, pool);
+                assertEquals(0, Files.size(parallelPath));
+                csv.exportAsync(parallelPath, StandardCharsets.UTF_8).get();
+                assertArrayEquals(Files.readAllBytes(path), Files.readAllBytes(parallelPath));
+            } finally {
+                pool.shutdown();
+                Files.deleteIfExists(path);
+                Files.deleteIfExists(parallelPath);
+            }
+        }
+
         @Test
         @DisplayName("Export assertions")
         void exportAssertions() {
@@ -1098,7 +1307,11 @@ final class SkCsvTest {
                     () -> assertThrows(NullPointerException.class, () -> csv.export(null, StandardCharsets.UTF_8)),
                     () -> assertThrows(NullPointerException.class, () -> csv.export(path, (OpenOption) null)),
                     () -> assertThrows(NullPointerException.class, () -> csv.export(path, StandardCharsets.UTF_8, (OpenOption) null)),
-                    () -> assertThrows(NullPointerException.class, () -> csv.export(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, null))
+                    () -> assertThrows(NullPointerException.class, () -> csv.export(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, null)),
+                    () -> assertThrows(NullPointerException.class, () -> csv.exportParallel(path, null)),
+                    () -> assertThrows(NullPointerException.class, () -> csv.exportParallel(path, StandardCharsets.UTF_8, (ForkJoinPool) null)),
+                    () -> assertThrows(NullPointerException.class, () -> csv.exportParallel(path, StandardCharsets.UTF_8, (OpenOption) null)),
+                    () -> assertThrows(NullPointerException.class, () -> csv.exportAsync(path, null))
             );
         }
 
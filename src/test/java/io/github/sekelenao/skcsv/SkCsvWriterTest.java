@@ -0,0 +1,375 @@
+package io.github.sekelenao.skcsv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnmappableCharacterException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class SkCsvWriterTest {
+
+    private static final String NEW_LINE = System.lineSeparator();
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    final class Writing {
+
+        @Test
+        @DisplayName("Rows and cells are formatted as by export")
+        void formatting() throws IOException {
+            var text = new StringWriter();
+            try (var writer = SkCsvWriter.open(text, SkCsvConfig.SEMICOLON)) {
+                writer.writeRow(new SkCsvRow("a", "b;c", "\"quoted\""));
+                writer.writeRow("multi\nline", "");
+                writer.writeCell("x");
+                writer.writeCell("y");
+                writer.endRow();
+                writer.endRow();
+                writer.writeCell("last");
+            }
+            var expected = "a;\"b;c\";\"\"\"quoted\"\"\"" + NEW_LINE
+                    + "\"multi\nline\";" + NEW_LINE
+                    + "x;y" + NEW_LINE
+                    + NEW_LINE
+                    + "last" + NEW_LINE;
+            assertEquals(expected, text.toString());
+        }
+
+        @Test
+        @DisplayName("Written files are read back")
+        void roundTrip() throws IOException {
+            var csv = new SkCsv();
+            for (int i = 0; i < 10_000; i++) {
+                csv.add(new SkCsvRow(String.valueOf(i), "été," + i, "\"" + i + "\"\n"));
+            }
+            var path = directory.resolve("rows.csv");
+            try (var writer = SkCsvWriter.open(path, SkCsvConfig.COMMA, StandardCharsets.UTF_8)) {
+                for (var row : csv) {
+                    writer.writeRow(row);
+                }
+            }
+            var compressed = directory.resolve("rows.csv.gz");
+            try (var writer = SkCsvWriter.open(compressed, SkCsvConfig.COMMA, StandardCharsets.UTF_8, SkCsvCompression.GZIP)) {
+                for (var row : csv) {
+                    writer.writeRow(row);
+                }
+            }
+            assertAll("Round trip",
+                    () -> assertEquals(csv, SkCsv.from(path, SkCsvConfig.COMMA, StandardCharsets.UTF_8)),
+                    () -> assertEquals(csv, SkCsv.from(compressed, SkCsvConfig.COMMA, StandardCharsets.UTF_8, SkCsvCompression.GZIP))
+            );
+        }
+
+        @Test
+        @DisplayName("Byte streams are written in the given charset")
+        void byteStream() throws IOException {
+            var bytes = new ByteArrayOutputStream();
+            try (var writer = SkCsvWriter.open(bytes, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_16LE)) {
+                writer.writeRow("é", "ü");
+                writer.flush();
+                assertEquals("é;ü" + NEW_LINE, bytes.toString(StandardCharsets.UTF_16LE));
+            }
+        }
+
+    }
+
+    @Nested
+    final class Encoding {
+
+        private static String text(int rows) {
+            var text = new StringBuilder();
+            for (int i = 0; i < rows; i++) {
+                text.append("ascii ").append(i).append(";été ½ €;\uD83D\uDE00 ").append(i).append(System.lineSeparator());
+            }
+            return text.toString();
+        }
+
+        @Test
+        @DisplayName("Files are encoded as by the charset encoders")
+        void sameBytes() throws IOException {
+            var text = text(50_000);
+            var path = directory.resolve("encoded.csv");
+            for (var charset : List.of(StandardCharsets.UTF_8, StandardCharsets.UTF_16)) {
+                try (var writer = SkCsvWriter.open(path, SkCsvConfig.SEMICOLON, charset)) {
+                    for (var line : text.split(System.lineSeparator())) {
+                        var cells = line.split(";");
+                        writer.writeRow(cells);
+                    }
+                }
+                assertArrayEquals(text.getBytes(charset), Files.readAllBytes(path));
+            }
+        }
+
+        @Test
+        @DisplayName("Single byte charsets")
+        void singleByte() throws IOException {
+            var path = directory.resolve("latin.csv");
+            try (var writer = SkCsvWriter.open(path, SkCsvConfig.SEMICOLON, StandardCharsets.ISO_8859_1)) {
+                writer.writeRow("été", "ÿ");
+            }
+            var ascii = directory.resolve("ascii.csv");
+            assertAll("Single byte",
+                    () -> assertArrayEquals(("été;ÿ" + NEW_LINE).getBytes(StandardCharsets.ISO_8859_1), Files.readAllBytes(path)),
+                    () -> assertThrows(UnmappableCharacterException.class, () -> {
+                        try (var writer = SkCsvWriter.open(ascii, SkCsvConfig.SEMICOLON, StandardCharsets.US_ASCII)) {
+                            writer.writeRow("a", "é");
+                        }
+                    }),
+                    () -> assertThrows(UnmappableCharacterException.class, () -> {
+                        try (var writer = SkCsvWriter.open(ascii, SkCsvConfig.SEMICOLON, StandardCharsets.ISO_8859_1)) {
+                            writer.writeRow("€");
+                        }
+                    }),
+                    () -> {
+                        var exception = assertThrows(UnmappableCharacterException.class, () -> {
+                            try (var writer = SkCsvWriter.open(ascii, SkCsvConfig.SEMICOLON, StandardCharsets.US_ASCII)) {
+                                writer.writeRow("\uD83D\uDE00");
+                            }
+                        });
+                        assertEquals(2, exception.getInputLength());
+                    },
+                    () -> assertThrows(MalformedInputException.class, () -> {
+                        try (var writer = SkCsvWriter.open(ascii, SkCsvConfig.SEMICOLON, StandardCharsets.ISO_8859_1)) {
+                            writer.writeRow("\uDE00");
+                        }
+                    })
+            );
+        }
+
+        @Test
+        @DisplayName("Flushing while a surrogate pair is pending writes the full buffers")
+        void flushPendingSurrogate() throws IOException {
+            var path = directory.resolve("pending.csv");
+            var ascii = "a".repeat(1 << 16);
+            try (var writer = ChannelWriter.open(path, StandardCharsets.UTF_8)) {
+                writer.write(ascii);
+                writer.write('\uD83D');
+                writer.flush();
+                assertEquals(ascii.length(), Files.size(path));
+                writer.write('\uDE00');
+            }
+            assertEquals(ascii + "\uD83D\uDE00", Files.readString(path));
+        }
+
+        @Test
+        @DisplayName("Malformed surrogates are reported")
+        void malformed() {
+            var path = directory.resolve("malformed.csv");
+            assertAll("Malformed",
+                    () -> assertThrows(MalformedInputException.class, () -> {
+                        try (var writer = SkCsvWriter.open(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)) {
+                            writer.writeRow("\uDE00");
+                        }
+                    }),
+                    () -> assertThrows(MalformedInputException.class, () -> {
+                        try (var writer = SkCsvWriter.open(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)) {
+                            writer.writeRow("\uD83D", "a");
+                        }
+                    }),
+                    () -> assertThrows(MalformedInputException.class, () -> {
+                        try (var writer = SkCsvWriter.open(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)) {
+                            writer.writeCell("a\uD83D");
+                        }
+                    })
+            );
+        }
+
+        @Test
+        @DisplayName("Open options are applied as by Files.newOutputStream")
+        void openOptions() throws IOException {
+            var path = directory.resolve("options.csv");
+            try (var writer = SkCsvWriter.open(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)) {
+                writer.writeRow("a", "b");
+            }
+            try (var writer = SkCsvWriter.open(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, StandardOpenOption.APPEND)) {
+                writer.writeRow("c");
+            }
+            assertAll("Open options",
+                    () -> assertEquals("a;b" + NEW_LINE + "c" + NEW_LINE, Files.readString(path)),
+                    () -> assertThrows(FileAlreadyExistsException.class, () -> SkCsvWriter.open(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> SkCsvWriter.open(path, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, StandardOpenOption.READ))
+            );
+        }
+
+    }
+
+    @Nested
+    final class Async {
+
+        @Test
+        @DisplayName("Asynchronous writers write the same files")
+        void sameFiles() throws IOException {
+            var rows = new ArrayList<SkCsvRow>();
+            for (int i = 0; i < 100_000; i++) {
+                rows.add(new SkCsvRow(String.valueOf(i), "été;" + i, "\"" + i + "\"\n"));
+            }
+            var path = directory.resolve("sync.csv");
+            var asyncPath = directory.resolve("async.csv");
+            for (var charset : List.of(StandardCharsets.UTF_8, StandardCharsets.UTF_16)) {
+                try (var writer = SkCsvWriter.open(path, SkCsvConfig.SEMICOLON, charset)) {
+                    for (var row : rows) writer.writeRow(row);
+                }
+                var writer = SkCsvWriter.openAsync(asyncPath, SkCsvConfig.SEMICOLON, charset);
+                for (var row : rows) writer.writeRow(row);
+                assertFalse(writer.completion().isDone());
+                writer.close();
+                assertTrue(writer.completion().isDone());
+                assertArrayEquals(Files.readAllBytes(path), Files.readAllBytes(asyncPath));
+            }
+            var compressed = directory.resolve("async.csv.gz");
+            try (var writer = SkCsvWriter.openAsync(compressed, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, SkCsvCompression.GZIP)) {
+                for (var row : rows) writer.writeRow(row);
+            }
+            assertEquals(new SkCsv(rows), SkCsv.from(compressed, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8, SkCsvCompression.GZIP));
+        }
+
+        // Target failing with the specified error, counting down the latch once closed
+        private static WritableByteChannel failing(RuntimeException error, CountDownLatch closed) {
+            return new WritableByteChannel() {
+                @Override
+                public int write(ByteBuffer source) throws IOException {
+                    if (error == null) throw new IOException("disk full");
+                    throw error;
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return closed.getCount() > 0;
+                }
+
+                @Override
+                public void close() {
+                    closed.countDown();
+                }
+            };
+        }
+
+        @Test
+        @DisplayName("Errors of the writing thread are reported")
+        void errors() throws IOException, InterruptedException {
+            var closed = new CountDownLatch(1);
+            var channel = AsyncChannel.of(failing(null, closed));
+            var bytes = ByteBuffer.allocate(1 << 16);
+            var thrown = assertThrows(IOException.class, () -> {
+                while (true) channel.write(bytes.clear());
+            });
+            var completion = channel.completion();
+            assertAll("Errors",
+                    () -> assertEquals("disk full", thrown.getCause().getMessage()),
+                    () -> assertTrue(completion.isCompletedExceptionally()),
+                    () -> assertThrows(IOException.class, channel::close)
+            );
+            var failure = assertThrows(ExecutionException.class, completion::get);
+            assertAll("Closed",
+                    () -> assertSame(thrown.getCause(), failure.getCause()),
+                    () -> assertTrue(closed.await(10, TimeUnit.SECONDS)),
+                    () -> assertThrows(ClosedChannelException.class, () -> channel.write(bytes))
+            );
+        }
+
+        @Test
+        @Timeout(10)
+        @DisplayName("Unchecked errors of the writing thread are reported")
+        void uncheckedErrors() throws InterruptedException {
+            var error = new IllegalStateException("broken");
+            var closed = new CountDownLatch(1);
+            var channel = AsyncChannel.of(failing(error, closed));
+            var bytes = ByteBuffer.allocate(1 << 16);
+            var thrown = assertThrows(IOException.class, () -> {
+                while (true) channel.write(bytes.clear());
+            });
+            var completion = channel.completion();
+            var failure = assertThrows(ExecutionException.class, completion::get);
+            assertAll("Unchecked errors",
+                    () -> assertSame(error, thrown.getCause()),
+                    () -> assertSame(error, failure.getCause()),
+                    () -> assertThrows(IOException.class, channel::close),
+                    () -> assertTrue(closed.await(10, TimeUnit.SECONDS))
+            );
+        }
+
+        @Test
+        @Timeout(10)
+        @DisplayName("Writers over a failing channel throw when closed")
+        void closeFailing() throws IOException {
+            var error = new IllegalStateException("broken");
+            var channel = AsyncChannel.of(failing(error, new CountDownLatch(1)));
+            var writer = SkCsvWriter.async(channel, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8);
+            writer.writeRow("a", "b");
+            assertSame(error, assertThrows(IllegalStateException.class, writer::close));
+        }
+
+        @Test
+        @Timeout(10)
+        @DisplayName("Writers encoding into the buffers of a failing channel throw instead of waiting")
+        void writeFailing() throws IOException {
+            var closed = new CountDownLatch(1);
+            var writer = SkCsvWriter.async(AsyncChannel.of(failing(null, closed)), SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8);
+            var thrown = assertThrows(IOException.class, () -> {
+                while (true) writer.writeRow("été", "a".repeat(1024));
+            });
+            assertAll("Failing writes",
+                    () -> assertEquals("disk full", thrown.getCause().getMessage()),
+                    () -> assertThrows(IOException.class, writer::close),
+                    () -> assertTrue(closed.await(10, TimeUnit.SECONDS))
+            );
+        }
+
+    }
+
+    @Nested
+    final class Assertions {
+
+        @Test
+        @DisplayName("Misuses of a writer")
+        void misuses() throws IOException {
+            var writer = SkCsvWriter.open(new StringWriter(), SkCsvConfig.SEMICOLON);
+            writer.writeCell("a");
+            assertAll("Row in progress",
+                    () -> assertThrows(IllegalStateException.class, () -> writer.writeRow("b")),
+                    () -> assertThrows(IllegalStateException.class, () -> writer.writeRow(new SkCsvRow("b"))),
+                    () -> assertThrows(NullPointerException.class, () -> writer.writeCell(null)),
+                    () -> assertThrows(NullPointerException.class, () -> writer.writeRow((String[]) null)),
+                    () -> assertThrows(NullPointerException.class, () -> writer.writeRow("b", null)),
+                    () -> assertThrows(NullPointerException.class, () -> writer.writeRow((SkCsvRow) null))
+            );
+            writer.close();
+            writer.close();
+            assertTrue(writer.completion().isDone());
+            assertAll("Closed",
+                    () -> assertThrows(IOException.class, () -> writer.writeCell("a")),
+                    () -> assertThrows(IOException.class, writer::endRow),
+                    () -> assertThrows(IOException.class, writer::flush),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvWriter.open(new StringWriter(), null)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvWriter.open((Path) null)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvWriter.openAsync(null, SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8)),
+                    () -> assertThrows(NullPointerException.class, () -> SkCsvWriter.openAsync(directory.resolve("a.csv"), SkCsvConfig.SEMICOLON, null))
+            );
+        }
+
+    }
+
+}
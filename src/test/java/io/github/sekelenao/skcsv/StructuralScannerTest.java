@@ -0,0 +1,90 @@
+package io.github.sekelenao.skcsv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class StructuralScannerTest {
+
+    private static long reference(ByteBuffer bytes, int from, int to, int quote, int delimiter) {
+        var mask = 0L;
+        for (int i = from; i < to; i++) {
+            var b = bytes.get(i) & 0xFF;
+            if (b == quote || b == delimiter || b <= '\r') mask |= 1L << (i - from);
+        }
+        return mask;
+    }
+
+    private static ByteBuffer randomBytes(Random random, ByteOrder order) {
+        var bytes = new byte[4096];
+        var alphabet = new byte[]{'a', 'z', '"', ';', ',', '\n', '\r', '\t', 0, (byte) 0x80, (byte) 0xC3, (byte) 0xFF, 0x0E, 0x0D};
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = random.nextBoolean() ? alphabet[random.nextInt(alphabet.length)] : (byte) random.nextInt();
+        }
+        return ByteBuffer.wrap(bytes).order(order);
+    }
+
+    @Nested
+    final class Scan {
+
+        @Test
+        @DisplayName("Scanners find the same structural bytes as a byte by byte comparison")
+        void sameAsReference() {
+            var random = new Random(0);
+            var scanners = new StructuralScanner[]{StructuralScanner.portable('"', ';'), StructuralScanner.of('"', ';')};
+            for (var order : new ByteOrder[]{ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN}) {
+                var bytes = randomBytes(random, order);
+                for (var scanner : scanners) {
+                    for (int from = 0; from + StructuralScanner.BLOCK_SIZE <= bytes.limit(); from += 37) {
+                        var to = from + StructuralScanner.BLOCK_SIZE;
+                        assertEquals(reference(bytes, from, to, '"', ';'), scanner.scan(bytes, from, to));
+                        assertEquals(reference(bytes, from, to - 5, '"', ';'), scanner.scan(bytes, from, to - 5));
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Scanners with Latin-1 quote and delimiter")
+        void latin1() {
+            var bytes = ByteBuffer.wrap("aéb§c§é\nzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzz"
+                    .getBytes(StandardCharsets.ISO_8859_1));
+            var expected = reference(bytes, 0, StructuralScanner.BLOCK_SIZE, 0xA7, 0xE9);
+            assertAll("Latin-1",
+                    () -> assertEquals(expected, StructuralScanner.portable(0xA7, 0xE9).scan(bytes, 0, StructuralScanner.BLOCK_SIZE)),
+                    () -> assertEquals(expected, StructuralScanner.of(0xA7, 0xE9).scan(bytes, 0, StructuralScanner.BLOCK_SIZE))
+            );
+        }
+
+    }
+
+    @Nested
+    final class Parsing {
+
+        @Test
+        @DisplayName("Bulk copied runs give the same rows as decoded chars")
+        void sameRowsAsChars() throws IOException {
+            var text = new StringBuilder();
+            for (int i = 0; i < 2_000; i++) {
+                text.append("plain value number ").append(i).append(";\"quoted ;\r\n\"\"cell\"\" été\";")
+                        .append("x".repeat(i % 150)).append(i % 3 == 0 ? "\r\n" : "\n");
+            }
+            var bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+            try (var fromBytes = SkCsvReader.open(new ByteArrayInputStream(bytes), SkCsvConfig.SEMICOLON, StandardCharsets.UTF_8);
+                 var fromChars = SkCsvReader.open(text, SkCsvConfig.SEMICOLON)) {
+                assertEquals(fromChars.stream().collect(SkCsv.collector()), fromBytes.stream().collect(SkCsv.collector()));
+            }
+        }
+
+    }
+
+}